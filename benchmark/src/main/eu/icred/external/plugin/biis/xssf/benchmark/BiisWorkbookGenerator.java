@@ -0,0 +1,308 @@
+package eu.icred.external.plugin.biis.xssf.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Writes synthetic BIIS workbooks for the benchmarks.
+ *
+ * The sheet always contains the id columns (ObjNoOwner, DataSupplierNumber,
+ * DateOfAppraisal, Currency, ArealUnit). Every other selected column is
+ * filled per row with the share configured for its kind (numeric, date or
+ * string), so both the column count and the cell type mix of real exports
+ * can be reproduced. The output is deterministic for a given seed.
+ */
+public class BiisWorkbookGenerator {
+
+    enum Kind {
+        NUMERIC, DATE, STRING
+    }
+
+    static final List<String> ID_COLUMNS = Collections.unmodifiableList(Arrays.asList("ObjNoOwner", "DataSupplierNumber", "DateOfAppraisal",
+            "Currency", "ArealUnit"));
+
+    private static final Map<String, String[]> VOCABULARY = new HashMap<String, String[]>();
+    private static final Map<String, Kind> KINDS = new HashMap<String, Kind>();
+
+    static {
+        VOCABULARY.put("AddressType_ISOCountryCodeType_Country", new String[] { "DE", "AT", "FR", "NL" });
+        VOCABULARY.put("RebaseType1", new String[] { "Fondsgutachten", "Privatgutachten", "Gerichtsgutachten", "Fremdgutachten" });
+        VOCABULARY.put("RebaseType2", new String[] { "U", "E", "N", "V" });
+        VOCABULARY.put("MainTypeOfUse", new String[] { "Buero", "Handel", "Industrie(Lager,Hallen)", "Wohnen", "Hotel", "Gastronomie" });
+        VOCABULARY.put("AncillaryTypeOfUse", new String[] { "Buero", "Handel", "Keller/Archiv", "Garage/TG", "Aussenstellplaetze" });
+        VOCABULARY.put("TypeOfOwnership", new String[] { "0 - unbekannt", "2 - Erbbaurecht", "4 - Teileigentum", "5 - Volleigentum" });
+        VOCABULARY.put("SingleTenant", new String[] { "TRUE", "FALSE" });
+        VOCABULARY.put("MaintenanceBacklog", new String[] { "TRUE", "FALSE" });
+        VOCABULARY.put("GroundLease", new String[] { "TRUE", "FALSE" });
+        VOCABULARY.put("LocationQuality", new String[] { "1a", "1b", "2a", "2b", "c", "unbekannt" });
+        VOCABULARY.put("StructuralCondition", new String[] { "sehr gut", "gut", "durchschnittlich", "schlecht", "(unbekannt)" });
+        VOCABULARY.put("FitOutQuality", new String[] { "stark gehoben", "gehoben", "mittel", "einfach", "(unbekannt)" });
+        VOCABULARY.put("StateOfCompletion", new String[] { "F", "I", "P" });
+        VOCABULARY.put("OriginalYearOfConstruction", new String[] { "1965", "1978", "1992", "2004", "2011" });
+        VOCABULARY.put("CalculatedYearOfConstruction", new String[] { "1970", "1985", "1999", "2008" });
+
+        for (String key : VOCABULARY.keySet()) {
+            KINDS.put(key, Kind.STRING);
+        }
+        for (String key : new String[] { "DataSupplier", "TypeOfDataSupplier", "AddressType_Street", "AddressType_PostCode", "AddressType_Town",
+                "AddressType_Text", "Owner", "RebaseObjAdditionalInformation", "QualityDateOfAppraisal", "Floors", "GroundLeaseRemarks" }) {
+            KINDS.put(key, Kind.STRING);
+        }
+        for (String key : new String[] { "Date", "CompletionDate", "DateExchangeRate", "DateOfPurchase", "DateOfSale",
+                "DateOfChangeForRemainingEconomicLife" }) {
+            KINDS.put(key, Kind.DATE);
+        }
+    }
+
+    /**
+     * all BIIS keys known to the reader, in the order of the BIIS export
+     */
+    public static final List<String> ALL_COLUMNS = Collections.unmodifiableList(Arrays.asList("Date", "CompletionDate", "DataSupplier",
+            "TypeOfDataSupplier", "ArealUnit", "AddressType_Street", "AddressType_PostCode", "AddressType_Town",
+            "AddressType_ISOCountryCodeType_Country", "AddressType_Text", "Owner", "ObjNoOwner", "ObjKoWGS84Longitude", "ObjKoWGS84Latitude",
+            "RebaseType1", "RebaseType2", "RebaseObjAdditionalInformation", "DateOfAppraisal", "QualityDateOfAppraisal", "Currency",
+            "ExchangeRate1EUR", "DateExchangeRate", "MainTypeOfUse", "ShareMainTypeOfUse", "AncillaryTypeOfUse", "ShareAncillaryTypeOfUse",
+            "TypeOfOwnership", "SingleTenant", "PurchasePrice", "DateOfPurchase", "PriceOfSale", "DateOfSale", "LocationQuality",
+            "StructuralCondition", "FitOutQuality", "StateOfCompletion", "MaintenanceBacklog", "Floors", "NormalTotalEconomicLife",
+            "RemainingEconomicLife", "OriginalYearOfConstruction", "CalculatedYearOfConstruction", "DateOfChangeForRemainingEconomicLife",
+            "LandSize", "FloorToAreaRatio", "SiteCoverageRatio", "GrossFloorSpaceOverground", "GrossFloorSpaceBelowGround",
+            "TotalGrossFloorSpace", "TotalRentableArea", "RunningCosts", "ManagementCosts", "MaintenanceExpenses", "RentAllowance",
+            "OtherOperatingExpenses", "CapitalizationRate", "ValueByIncomeApproachWithoutPremiumsDiscounts", "DiscountsPremiums",
+            "DeductionForVacancy", "DeductionConstructionWorks", "OthersDiscountsPremiums", "ValueByIncomeApproach", "CostApproach",
+            "LandValue", "MarketValue", "GroundLease", "RemainingLifeOfGroundLease", "GroundRent", "GroundLeaseRemarks",
+            "RentalSituationOfficeLetArea", "RentalSituationOfficeContractualAnnualRent", "RentalSituationOfficeEstimatedAnnualRentForLetArea",
+            "RentalSituationOfficeVacantArea", "RentalSituationOfficeEstimatedAnnualRentForVacantArea", "RentalSituationRetailLetArea",
+            "RentalSituationRetailContractualAnnualRent", "RentalSituationRetailEstimatedAnnualRentForLetArea",
+            "RentalSituationRetailVacantArea", "RentalSituationRetailEstimatedAnnualRentForVacantArea", "RentalSituationStorageLetArea",
+            "RentalSituationStorageContractualAnnualRent", "RentalSituationStorageEstimatedAnnualRentForLetArea",
+            "RentalSituationStorageVacantArea", "RentalSituationStorageEstimatedAnnualRentForVacantArea", "RentalSituationArchiveLetArea",
+            "RentalSituationArchiveContractualAnnualRent", "RentalSituationArchiveEstimatedAnnualRentForLetArea",
+            "RentalSituationArchiveVacantArea", "RentalSituationArchiveEstimatedAnnualRentForVacantArea", "RentalSituationGastroLetArea",
+            "RentalSituationGastroContractualAnnualRent", "RentalSituationGastroEstimatedAnnualRentForLetArea",
+            "RentalSituationGastroVacantArea", "RentalSituationGastroEstimatedAnnualRentForVacantArea", "RentalSituationResidentialLetArea",
+            "RentalSituationResidentialContractualAnnualRent", "RentalSituationResidentialEstimatedAnnualRentForLetArea",
+            "RentalSituationResidentialVacantArea", "RentalSituationResidentialEstimatedAnnualRentForVacantArea",
+            "RentalSituationHotelLetArea", "RentalSituationHotelContractualAnnualRent", "RentalSituationHotelEstimatedAnnualRentForLetArea",
+            "RentalSituationHotelVacantArea", "RentalSituationHotelEstimatedAnnualRentForVacantArea", "RentalSituationLeisureLetArea",
+            "RentalSituationLeisureContractualAnnualRent", "RentalSituationLeisureEstimatedAnnualRentForLetArea",
+            "RentalSituationLeisureVacantArea", "RentalSituationLeisureEstimatedAnnualRentForVacantArea",
+            "RentalSituationIndoorparkingLetNumbers", "RentalSituationIndoorparkingContractualAnnualRent",
+            "RentalSituationIndoorparkingEstimatedAnnualRentForLetNumbers", "RentalSituationIndoorparkingVacantNumbers",
+            "RentalSituationIndoorparkingEstimatedAnnualRentForVacantNumbers", "RentalSituationOutsideparkingLetNumbers",
+            "RentalSituationOutsideparkingContractualAnnualRent", "RentalSituationOutsideparkingEstimatedAnnualRentForLetNumbers",
+            "RentalSituationOutsideparkingVacantNumbers", "RentalSituationOutsideparkingEstimatedAnnualRentForVacantNumbers",
+            "RentalSituationMiscArea1LetArea", "RentalSituationMiscArea1ContractualAnnualRent",
+            "RentalSituationMiscArea1EstimatedAnnualRentForLetArea", "RentalSituationMiscArea1VacantArea",
+            "RentalSituationMiscArea1EstimatedAnnualRentForVacantArea", "RentalSituationMiscArea2LetArea",
+            "RentalSituationMiscArea2ContractualAnnualRent", "RentalSituationMiscArea2EstimatedAnnualRentForLetArea",
+            "RentalSituationMiscArea2VacantArea", "RentalSituationMiscArea2EstimatedAnnualRentForVacantArea",
+            "RentalSituationMiscnumbers1LetNumbers", "RentalSituationMiscnumbers1ContractualAnnualRent",
+            "RentalSituationMiscnumbers1EstimatedAnnualRentForLetNumbers", "RentalSituationMiscnumbers1VacantNumbers",
+            "RentalSituationMiscnumbers1EstimatedAnnualRentForVacantNumbers", "RentalSituationMiscnumbers2LetNumbers",
+            "RentalSituationMiscnumbers2ContractualAnnualRent", "RentalSituationMiscnumbers2EstimatedAnnualRentForLetNumbers",
+            "RentalSituationMiscnumbers2VacantNumbers", "RentalSituationMiscnumbers2EstimatedAnnualRentForVacantNumbers",
+            "DataSupplierNumber"));
+
+    private int rows = 1000;
+    private List<String> columns = ALL_COLUMNS;
+    private double numericShare = 1.0;
+    private double dateShare = 1.0;
+    private double stringShare = 1.0;
+    private double duplicateObjNoOwnerRatio = 0.2;
+    private long seed = 4711;
+
+    /**
+     * @param rows
+     *            number of valuation rows (without header)
+     */
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * @param columns
+     *            BIIS keys to write; the id columns are always written
+     */
+    public void setColumns(List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * @param numericShare
+     *            share of filled cells in numeric columns (0..1)
+     */
+    public void setNumericShare(double numericShare) {
+        this.numericShare = numericShare;
+    }
+
+    /**
+     * @param dateShare
+     *            share of filled cells in date columns (0..1)
+     */
+    public void setDateShare(double dateShare) {
+        this.dateShare = dateShare;
+    }
+
+    /**
+     * @param stringShare
+     *            share of filled cells in string and enumeration columns
+     *            (0..1)
+     */
+    public void setStringShare(double stringShare) {
+        this.stringShare = stringShare;
+    }
+
+    /**
+     * @param duplicateObjNoOwnerRatio
+     *            share of rows which add another valuation to an already
+     *            written property (0..1)
+     */
+    public void setDuplicateObjNoOwnerRatio(double duplicateObjNoOwnerRatio) {
+        this.duplicateObjNoOwnerRatio = duplicateObjNoOwnerRatio;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void write(File file) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            write(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    public void write(OutputStream out) throws IOException {
+        List<String> keys = new ArrayList<String>(columns);
+        for (String idColumn : ID_COLUMNS) {
+            if (!keys.contains(idColumn)) {
+                keys.add(idColumn);
+            }
+        }
+        // the reader converts the cells in column order: Currency and
+        // ArealUnit have to precede the amount and area columns
+        Collections.sort(keys, new Comparator<String>() {
+            @Override
+            public int compare(String key1, String key2) {
+                return Integer.compare(columnOrder(key1), columnOrder(key2));
+            }
+        });
+        // the reader skips rows without a value in the first column
+        keys.remove("ObjNoOwner");
+        keys.add(0, "ObjNoOwner");
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, 100, true);
+        try {
+            Sheet sheet = workbook.createSheet("BIIS");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd.mm.yyyy"));
+
+            Row header = sheet.createRow(0);
+            for (int columnIndex = 0; columnIndex < keys.size(); columnIndex++) {
+                header.createCell(columnIndex).setCellValue(keys.get(columnIndex));
+            }
+
+            Random random = new Random(seed);
+            int properties = 0;
+            for (int rowIndex = 1; rowIndex <= rows; rowIndex++) {
+                int propertyNo;
+                if (properties > 0 && random.nextDouble() < duplicateObjNoOwnerRatio) {
+                    propertyNo = random.nextInt(properties);
+                } else {
+                    propertyNo = properties++;
+                }
+
+                Row row = sheet.createRow(rowIndex);
+                for (int columnIndex = 0; columnIndex < keys.size(); columnIndex++) {
+                    writeCell(row, columnIndex, keys.get(columnIndex), rowIndex, propertyNo, random, dateStyle);
+                }
+            }
+
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+        }
+    }
+
+    private static int columnOrder(String key) {
+        int index = ALL_COLUMNS.indexOf(key);
+        return index >= 0 ? index : Integer.MAX_VALUE;
+    }
+
+    private void writeCell(Row row, int columnIndex, String key, int rowIndex, int propertyNo, Random random, CellStyle dateStyle) {
+        if (key.equals("ObjNoOwner")) {
+            row.createCell(columnIndex).setCellValue("OBJ-" + propertyNo);
+            return;
+        } else if (key.equals("DataSupplierNumber")) {
+            row.createCell(columnIndex).setCellValue("DS-" + (propertyNo % 50));
+            return;
+        } else if (key.equals("DateOfAppraisal")) {
+            // unique per row, so every row yields its own valuation
+            Cell cell = row.createCell(columnIndex);
+            cell.setCellValue(new GregorianCalendar(2000, Calendar.JANUARY, 1 + rowIndex).getTime());
+            cell.setCellStyle(dateStyle);
+            return;
+        } else if (key.equals("Currency")) {
+            row.createCell(columnIndex).setCellValue("EUR");
+            return;
+        } else if (key.equals("ArealUnit")) {
+            row.createCell(columnIndex).setCellValue("qm");
+            return;
+        }
+
+        Kind kind = KINDS.containsKey(key) ? KINDS.get(key) : Kind.NUMERIC;
+        double share = kind == Kind.NUMERIC ? numericShare : kind == Kind.DATE ? dateShare : stringShare;
+        if (random.nextDouble() >= share) {
+            return;
+        }
+
+        Cell cell = row.createCell(columnIndex);
+        switch (kind) {
+        case DATE:
+            cell.setCellValue(new GregorianCalendar(1990 + random.nextInt(25), random.nextInt(12), 1 + random.nextInt(28)).getTime());
+            cell.setCellStyle(dateStyle);
+            break;
+        case STRING:
+            String[] vocabulary = VOCABULARY.get(key);
+            if (vocabulary != null) {
+                cell.setCellValue(vocabulary[random.nextInt(vocabulary.length)]);
+            } else {
+                cell.setCellValue(key + " " + random.nextInt(1000));
+            }
+            break;
+        default:
+            cell.setCellValue(Math.round(random.nextDouble() * 1000000) / 100.0);
+        }
+    }
+
+    /**
+     * usage: BiisWorkbookGenerator &lt;file&gt; [rows]
+     */
+    public static void main(String[] args) throws IOException {
+        BiisWorkbookGenerator generator = new BiisWorkbookGenerator();
+        if (args.length > 1) {
+            generator.setRows(Integer.parseInt(args[1]));
+        }
+        generator.write(new File(args[0]));
+    }
+}
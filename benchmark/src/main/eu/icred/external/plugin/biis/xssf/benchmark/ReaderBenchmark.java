@@ -0,0 +1,109 @@
+package eu.icred.external.plugin.biis.xssf.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eu.icred.external.plugin.biis.xssf.read.ImportStatistics;
+import eu.icred.external.plugin.biis.xssf.read.Reader;
+import eu.icred.model.node.Container;
+import eu.icred.plugin.worker.input.ImportWorkerConfiguration;
+
+/**
+ * End-to-end import of a generated BIIS workbook via {@link Reader#load}.
+ * Besides the invocations per second, the "rows" counter reports the
+ * throughput in rows per second. An invocation fails if not all rows have
+ * been imported.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+@State(Scope.Benchmark)
+public class ReaderBenchmark {
+
+    @Param({ "10000" })
+    public int rows;
+
+    @Param({ "0", "1" })
+    public int streaming;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    @Param({ "0.2" })
+    public double duplicateObjNoOwnerRatio;
+
+    private File file;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        file = File.createTempFile("biis-benchmark-", ".xlsx");
+
+        BiisWorkbookGenerator generator = new BiisWorkbookGenerator();
+        generator.setRows(rows);
+        generator.setDuplicateObjNoOwnerRatio(duplicateObjNoOwnerRatio);
+        generator.write(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() {
+        file.delete();
+    }
+
+    @Benchmark
+    public Container load(RowCounter counter) throws IOException {
+        Reader reader = new Reader();
+        ImportWorkerConfiguration config = new ImportWorkerConfiguration();
+
+        InputStream in = new FileInputStream(file);
+        try {
+            config.getStreams().put("biis-file", in);
+            config.getIntegers().put("sheet-number", 1);
+            config.getIntegers().put("streaming", streaming);
+            config.getIntegers().put("threads", threads);
+            reader.load(config);
+        } finally {
+            reader.unload();
+        }
+
+        // load() only logs errors: a failed import must not count as a fast one
+        ImportStatistics statistics = reader.getImportStatistics();
+        if (statistics == null || statistics.getRowsRead() != rows || statistics.getRowsFailed() > 0
+                || !statistics.getFailedSources().isEmpty() || reader.getContainer().getMaindata().getProperties().isEmpty()) {
+            throw new IllegalStateException("import failed: " + statistics);
+        }
+
+        counter.rows += statistics.getRowsRead();
+        return reader.getContainer();
+    }
+}
@@ -0,0 +1,118 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eu.icred.model.datatype.enumeration.AreaMeasurement;
+
+/**
+ * The per-cell hot path of the import: cell decoding, the biis2gif_*
+ * converters and the valuation id of {@link BiisRow#setObjectId()}.
+ *
+ * Lives in the reader package because these are package private.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConverterBenchmark {
+
+    private final Currency currency = Currency.getInstance("EUR");
+
+    private BiisCell numericCell;
+    private BiisCell dateCell;
+    private BiisCell useTypeCell;
+    private BiisCell ownershipCell;
+    private BiisCell yearCell;
+    private BiisCell booleanCell;
+    private BiisRow row;
+
+    @Setup
+    public void setup() {
+        numericCell = BiisCell.numeric(1234.5, false, false);
+        dateCell = BiisCell.numeric(42185, true, false);
+        useTypeCell = BiisCell.string("Industrie(Lager,Hallen)");
+        ownershipCell = BiisCell.string("5 - Volleigentum");
+        yearCell = BiisCell.string("1985");
+        booleanCell = BiisCell.string("TRUE");
+
+        row = new BiisRow(1);
+        row.val.setExpertId("DS-1");
+        row.val.setValidFrom(new LocalDate(2015, 6, 30));
+    }
+
+    @Benchmark
+    public Object getCellValueObjectNumeric() {
+        return BiisConverter.getCellValueObject(numericCell);
+    }
+
+    @Benchmark
+    public Object getCellValueObjectDate() {
+        return BiisConverter.getCellValueObject(dateCell);
+    }
+
+    @Benchmark
+    public Object getCellStringValue() {
+        return BiisConverter.getCellStringValue(useTypeCell);
+    }
+
+    @Benchmark
+    public Object biis2gifDouble() {
+        return BiisConverter.biis2gif_Double(numericCell);
+    }
+
+    @Benchmark
+    public Object biis2gifAmount() {
+        return BiisConverter.biis2gif_Amount(numericCell, currency);
+    }
+
+    @Benchmark
+    public Object biis2gifArea() {
+        return BiisConverter.biis2gif_Area(numericCell, AreaMeasurement.SQM);
+    }
+
+    @Benchmark
+    public Object biis2gifDate() {
+        return BiisConverter.biis2gif_Date(dateCell);
+    }
+
+    @Benchmark
+    public Object biis2gifYear() {
+        return BiisConverter.biis2gif_Year(yearCell);
+    }
+
+    @Benchmark
+    public Object biis2gifBoolean() {
+        return BiisConverter.biis2gif_Boolean(booleanCell);
+    }
+
+    @Benchmark
+    public Object biis2gifUseType() {
+        return BiisConverter.biis2gif_UseType(BiisConverter.getCellStringValue(useTypeCell));
+    }
+
+    @Benchmark
+    public Object biis2gifOwnershipType() {
+        return BiisConverter.biis2gif_OwnershipType(ownershipCell);
+    }
+
+    @Benchmark
+    public Object setObjectId() {
+        row.setObjectId();
+        return row.val.getObjectIdSender();
+    }
+}
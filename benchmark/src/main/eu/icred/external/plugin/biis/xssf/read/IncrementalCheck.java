@@ -0,0 +1,135 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import eu.icred.model.node.entity.Property;
+import eu.icred.plugin.worker.input.ImportWorkerConfiguration;
+
+/**
+ * Checks the incremental read mode: every row is imported whether it changed
+ * or not, a valuation ID which becomes a duplicate is imported from all of
+ * its rows, and the fingerprint index only changes with
+ * {@link Reader#commitFingerprints()}.
+ *
+ * usage: IncrementalCheck
+ */
+public class IncrementalCheck {
+    private static final String[] HEADER = { "ObjNoOwner", "DataSupplierNumber", "DateOfAppraisal", "Currency", "ArealUnit",
+            "AddressType_Street", "MarketValue" };
+    private static final String DUPLICATE_ID = "DS-1_2015-06-30";
+
+    public static void main(String[] args) throws Exception {
+        File index = File.createTempFile("biis-fingerprints-", ".properties");
+        index.delete();
+        try {
+            byte[] unique = createWorkbook(new Object[][] { { "OBJ-1", "DS-1", 100 }, { "OBJ-2", "DS-2", 200 } });
+            byte[] duplicate = createWorkbook(new Object[][] { { "OBJ-1", "DS-1", 100 }, { "OBJ-2", "DS-2", 200 },
+                    { "OBJ-3", "DS-1", 300 } });
+
+            // run 1: the ID is unique
+            Reader reader = new Reader();
+            Map<String, Property> properties = read(reader, unique, index);
+            check(reader.getImportDelta().getAddedValuations(), DUPLICATE_ID, "DS-2_2015-06-30");
+            reader.commitFingerprints();
+
+            // run 2: the ID occurs twice, both rows have to be imported
+            properties = read(reader, duplicate, index);
+            checkValuation(properties, "OBJ-1");
+            checkValuation(properties, "OBJ-3");
+            check(reader.getImportDelta().getChangedValuations(), DUPLICATE_ID);
+            check(reader.getImportDelta().getUnchangedValuations(), "DS-2_2015-06-30");
+            reader.commitFingerprints();
+
+            // run 3: nothing changed, the container is complete anyway
+            properties = read(reader, duplicate, index);
+            checkValuation(properties, "OBJ-1");
+            checkValuation(properties, "OBJ-2");
+            checkValuation(properties, "OBJ-3");
+            check(reader.getImportDelta().getUnchangedValuations(), DUPLICATE_ID, "DS-2_2015-06-30");
+
+            // without commit, the next import is compared with the same index
+            read(reader, unique, index);
+            check(reader.getImportDelta().getChangedValuations(), DUPLICATE_ID);
+            read(reader, unique, index);
+            check(reader.getImportDelta().getChangedValuations(), DUPLICATE_ID);
+
+            System.out.println("incremental read mode ok");
+        } finally {
+            index.delete();
+        }
+    }
+
+    private static Map<String, Property> read(Reader reader, byte[] workbook, File index) throws Exception {
+        Map<String, Property> properties = new LinkedHashMap<String, Property>();
+        ImportWorkerConfiguration config = new ImportWorkerConfiguration();
+        config.getStreams().put("biis-file", new ByteArrayInputStream(workbook));
+        config.getIntegers().put("sheet-number", 1);
+        config.getStrings().put("fingerprint-index", index.getPath());
+        reader.load(config, new PropertyCollector(properties));
+        return properties;
+    }
+
+    private static void check(Collection<String> valuationIds, String... expected) {
+        if (!new TreeSet<String>(valuationIds).equals(new TreeSet<String>(Arrays.asList(expected)))) {
+            throw new IllegalStateException("expected " + Arrays.toString(expected) + ", got " + valuationIds);
+        }
+    }
+
+    private static void checkValuation(Map<String, Property> properties, String objNoOwner) {
+        Property prop = properties.get(objNoOwner);
+        if (prop == null || prop.getValuations() == null || prop.getValuations().isEmpty()) {
+            throw new IllegalStateException("valuation of " + objNoOwner + " not imported: " + properties.keySet());
+        }
+    }
+
+    /**
+     * @param rows
+     *            ObjNoOwner, DataSupplierNumber and MarketValue per row
+     */
+    private static byte[] createWorkbook(Object[][] rows) throws Exception {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        try {
+            Sheet sheet = workbook.createSheet("BIIS");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd.mm.yyyy"));
+
+            Row header = sheet.createRow(0);
+            for (int columnIndex = 0; columnIndex < HEADER.length; columnIndex++) {
+                header.createCell(columnIndex).setCellValue(HEADER[columnIndex]);
+            }
+
+            for (int rowIndex = 0; rowIndex < rows.length; rowIndex++) {
+                Row row = sheet.createRow(rowIndex + 1);
+                row.createCell(0).setCellValue((String) rows[rowIndex][0]);
+                row.createCell(1).setCellValue((String) rows[rowIndex][1]);
+                Cell date = row.createCell(2);
+                date.setCellValue(new GregorianCalendar(2015, 5, 30).getTime());
+                date.setCellStyle(dateStyle);
+                row.createCell(3).setCellValue("EUR");
+                row.createCell(4).setCellValue("qm");
+                row.createCell(5).setCellValue("Street " + rowIndex);
+                row.createCell(6).setCellValue((Integer) rows[rowIndex][2]);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        } finally {
+            workbook.close();
+        }
+    }
+}
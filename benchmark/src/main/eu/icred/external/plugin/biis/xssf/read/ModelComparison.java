@@ -0,0 +1,126 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import eu.icred.model.node.entity.Property;
+
+/**
+ * Compares imported properties getter by getter (the checks of this package
+ * cannot rely on equals() of the model). The label of a property is not
+ * compared, it is derived from the first row of the property.
+ */
+final class ModelComparison {
+    private static final int MAX_REPORTED_DIFFERENCES = 20;
+
+    private ModelComparison() {
+    }
+
+    static void assertEqual(String what, Map<String, Property> expected, Map<String, Property> actual) throws Exception {
+        List<String> differences = new ArrayList<String>();
+        compare("properties", expected, actual, differences, new IdentityHashMap<Object, Object>());
+        if (!differences.isEmpty()) {
+            throw new IllegalStateException(differences.size() + " differences (" + what + "): "
+                    + differences.subList(0, Math.min(differences.size(), MAX_REPORTED_DIFFERENCES)));
+        }
+    }
+
+    private static void compare(String path, Object expected, Object actual, List<String> differences, Map<Object, Object> visited)
+            throws Exception {
+        if (expected == null || actual == null) {
+            if (expected != actual) {
+                differences.add(path + ": " + expected + " != " + actual);
+            }
+            return;
+        }
+
+        if (expected instanceof BigDecimal && actual instanceof BigDecimal) {
+            if (((BigDecimal) expected).compareTo((BigDecimal) actual) != 0) {
+                differences.add(path + ": " + expected + " != " + actual);
+            }
+            return;
+        }
+
+        if (isValue(expected)) {
+            if (!expected.equals(actual)) {
+                differences.add(path + ": " + expected + " != " + actual);
+            }
+            return;
+        }
+
+        if (visited.put(expected, actual) != null) {
+            return;
+        }
+
+        if (expected instanceof Map && actual instanceof Map) {
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            if (!expectedMap.keySet().equals(actualMap.keySet())) {
+                differences.add(path + ": keys " + new TreeSet<Object>(expectedMap.keySet()) + " != " + new TreeSet<Object>(actualMap.keySet()));
+                return;
+            }
+            for (Object key : expectedMap.keySet()) {
+                compare(path + "[" + key + "]", expectedMap.get(key), actualMap.get(key), differences, visited);
+            }
+            return;
+        }
+
+        if (expected instanceof Collection && actual instanceof Collection) {
+            Collection<?> expectedCollection = (Collection<?>) expected;
+            Collection<?> actualCollection = (Collection<?>) actual;
+            if (expectedCollection.size() != actualCollection.size()) {
+                differences.add(path + ": size " + expectedCollection.size() + " != " + actualCollection.size());
+                return;
+            }
+            Iterator<?> actualIterator = actualCollection.iterator();
+            int index = 0;
+            for (Object expectedElement : expectedCollection) {
+                compare(path + "[" + index++ + "]", expectedElement, actualIterator.next(), differences, visited);
+            }
+            return;
+        }
+
+        if (expected.getClass() != actual.getClass()) {
+            differences.add(path + ": " + expected.getClass().getName() + " != " + actual.getClass().getName());
+            return;
+        }
+
+        for (Method getter : getters(expected.getClass())) {
+            if (expected instanceof Property && getter.getName().equals("getLabel")) {
+                continue;
+            }
+            compare(path + "." + getter.getName().substring(3), getter.invoke(expected), getter.invoke(actual), differences, visited);
+        }
+    }
+
+    private static boolean isValue(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Enum
+                || value instanceof java.util.Currency || value instanceof java.util.Date || value.getClass().getName().startsWith("org.joda.");
+    }
+
+    private static List<Method> getters(Class<?> type) {
+        List<Method> getters = new ArrayList<Method>();
+        for (Method method : type.getMethods()) {
+            if (method.getName().startsWith("get") && method.getParameterTypes().length == 0 && method.getDeclaringClass() != Object.class) {
+                getters.add(method);
+            }
+        }
+        Method[] sorted = getters.toArray(new Method[getters.size()]);
+        Arrays.sort(sorted, new Comparator<Method>() {
+            @Override
+            public int compare(Method method1, Method method2) {
+                return method1.getName().compareTo(method2.getName());
+            }
+        });
+        return Arrays.asList(sorted);
+    }
+}
@@ -0,0 +1,193 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCellFormula;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STCellFormulaType;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STCellType;
+
+import eu.icred.model.node.entity.Property;
+import eu.icred.plugin.worker.input.ImportWorkerConfiguration;
+
+/**
+ * Checks that the workbook and the streaming read mode agree on a sheet
+ * with shared formulas (with and without cached results), string formulas
+ * and empty rows: the decoded cells, the row statistics and the imported
+ * properties have to be equal.
+ *
+ * Lives in the reader package because the cell decoding is package private.
+ *
+ * usage: ReadModeCheck
+ */
+public class ReadModeCheck {
+    private static final String[] HEADER = { "ObjNoOwner", "DataSupplierNumber", "DateOfAppraisal", "Currency", "ArealUnit",
+            "AddressType_Street", "LandSize", "MarketValue", "MainTypeOfUse" };
+    private static final int LAND_SIZE = 6;
+    private static final int MARKET_VALUE = 7;
+    private static final int MAIN_TYPE_OF_USE = 8;
+    private static final int ROWS = 30;
+
+    public static void main(String[] args) throws Exception {
+        byte[] workbook = createWorkbook();
+
+        List<String> domCells = readCellsWorkbook(workbook);
+        List<String> streamingCells = readCellsStreaming(workbook);
+        if (!domCells.equals(streamingCells)) {
+            throw new IllegalStateException("decoded cells differ:\nworkbook:  " + domCells + "\nstreaming: " + streamingCells);
+        }
+
+        Map<String, Property> domProperties = new LinkedHashMap<String, Property>();
+        ImportStatistics domStatistics = read(workbook, 0, domProperties);
+        Map<String, Property> streamingProperties = new LinkedHashMap<String, Property>();
+        ImportStatistics streamingStatistics = read(workbook, 1, streamingProperties);
+
+        if (domStatistics.getRowsRead() != streamingStatistics.getRowsRead()
+                || domStatistics.getRowsSkipped() != streamingStatistics.getRowsSkipped()
+                || domStatistics.getRowsFailed() != streamingStatistics.getRowsFailed()) {
+            throw new IllegalStateException("statistics differ:\nworkbook:  " + domStatistics + "\nstreaming: " + streamingStatistics);
+        }
+        if (domProperties.isEmpty()) {
+            throw new IllegalStateException("no properties imported");
+        }
+        ModelComparison.assertEqual("workbook vs. streaming", domProperties, streamingProperties);
+
+        System.out.println("read modes ok: " + domCells.size() + " rows, " + domProperties.size() + " properties");
+    }
+
+    /**
+     * ROWS data rows, every fifth one empty; LandSize is a shared formula
+     * (the last row without cached result), MarketValue a formula of
+     * LandSize, MainTypeOfUse a string formula
+     */
+    private static byte[] createWorkbook() throws Exception {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        try {
+            XSSFSheet sheet = workbook.createSheet("BIIS");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd.mm.yyyy"));
+
+            XSSFRow header = sheet.createRow(0);
+            for (int columnIndex = 0; columnIndex < HEADER.length; columnIndex++) {
+                header.createCell(columnIndex).setCellValue(HEADER[columnIndex]);
+            }
+
+            String sharedRef = "G2:G" + (ROWS + 1);
+            for (int rowIndex = 1; rowIndex <= ROWS; rowIndex++) {
+                XSSFRow row = sheet.createRow(rowIndex);
+                if (rowIndex % 5 == 0) {
+                    // <row/> without cells
+                    continue;
+                }
+
+                row.createCell(0).setCellValue("OBJ-" + rowIndex / 3);
+                row.createCell(1).setCellValue("DS-" + rowIndex);
+                XSSFCell date = row.createCell(2);
+                date.setCellValue(new GregorianCalendar(2015, rowIndex % 12, 1).getTime());
+                date.setCellStyle(dateStyle);
+                row.createCell(3).setCellValue("EUR");
+                row.createCell(4).setCellValue("qm");
+                row.createCell(5).setCellValue("Street " + rowIndex);
+
+                XSSFCell landSize = row.createCell(LAND_SIZE);
+                CTCellFormula shared = landSize.getCTCell().addNewF();
+                shared.setT(STCellFormulaType.SHARED);
+                shared.setSi(0);
+                if (rowIndex == 1) {
+                    shared.setRef(sharedRef);
+                    shared.setStringValue("ROW()*100");
+                }
+                if (rowIndex < ROWS) {
+                    landSize.getCTCell().setV(String.valueOf((rowIndex + 1) * 100));
+                }
+
+                XSSFCell marketValue = row.createCell(MARKET_VALUE);
+                marketValue.setCellFormula("G" + (rowIndex + 1) + "*2500");
+                marketValue.getCTCell().setV(String.valueOf((rowIndex + 1) * 250000));
+
+                XSSFCell mainTypeOfUse = row.createCell(MAIN_TYPE_OF_USE);
+                mainTypeOfUse.setCellFormula("\"Buero\"");
+                mainTypeOfUse.getCTCell().setT(STCellType.STR);
+                mainTypeOfUse.getCTCell().setV("Buero");
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private static List<String> readCellsWorkbook(byte[] bytes) throws Exception {
+        List<String> rows = new ArrayList<String>();
+        XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes));
+        try {
+            DecodingCache cache = new DecodingCache(workbook.getStylesSource(), workbook.getSharedStringSource());
+            XSSFSheet sheet = workbook.getSheetAt(0);
+            for (int rowIndex = 0; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
+                XSSFRow row = sheet.getRow(rowIndex);
+                if (row == null || row.getLastCellNum() <= 0) {
+                    continue;
+                }
+
+                BiisCell[] cells = new BiisCell[row.getLastCellNum()];
+                for (int columnIndex = 0; columnIndex < cells.length; columnIndex++) {
+                    XSSFCell cell = row.getCell(columnIndex);
+                    if (cell != null) {
+                        cells[columnIndex] = BiisCell.of(cell, workbook.isDate1904(), cache);
+                    }
+                }
+                rows.add(toString(rowIndex, cells));
+            }
+        } finally {
+            workbook.close();
+        }
+        return rows;
+    }
+
+    private static List<String> readCellsStreaming(byte[] bytes) throws Exception {
+        final List<String> rows = new ArrayList<String>();
+        OPCPackage pkg = OPCPackage.open(new ByteArrayInputStream(bytes));
+        try {
+            new StreamingSheetReader(pkg).readSheet(1, null, new RowHandler() {
+                @Override
+                public void handleRow(int rowIndex, BiisCell[] cells) {
+                    rows.add(ReadModeCheck.toString(rowIndex, cells));
+                }
+            });
+        } finally {
+            pkg.revert();
+        }
+        return rows;
+    }
+
+    private static String toString(int rowIndex, BiisCell[] cells) {
+        StringBuilder row = new StringBuilder().append(rowIndex + 1).append(':');
+        for (BiisCell cell : cells) {
+            row.append(' ').append(cell);
+        }
+        return row.toString();
+    }
+
+    private static ImportStatistics read(byte[] workbook, int streaming, Map<String, Property> properties) throws Exception {
+        Reader reader = new Reader();
+        ImportWorkerConfiguration config = new ImportWorkerConfiguration();
+        config.getStreams().put("biis-file", new ByteArrayInputStream(workbook));
+        config.getIntegers().put("sheet-number", 1);
+        config.getIntegers().put("streaming", streaming);
+        reader.load(config, new PropertyCollector(properties));
+        return reader.getImportStatistics();
+    }
+}
@@ -0,0 +1,100 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import eu.icred.external.plugin.biis.xssf.benchmark.BiisWorkbookGenerator;
+import eu.icred.external.plugin.biis.xssf.write.Writer;
+import eu.icred.model.node.Container;
+import eu.icred.model.node.entity.Property;
+import eu.icred.plugin.worker.input.ImportWorkerConfiguration;
+import eu.icred.plugin.worker.output.ExportWorkerConfiguration;
+
+/**
+ * Guards the mapping of the export worker against the reader: a generated
+ * workbook is imported, exported with {@link Writer} and imported again, the
+ * properties and valuations of both imports have to be equal (compared
+ * getter by getter). The label of a property is not compared, it is derived
+ * from the first row of the property (see {@link Writer}).
+ *
+ * Also checks that the header of the export (the keys of BiisExportColumn)
+ * lists the keys of {@link BiisColumn} in the same order.
+ *
+ * Lives in the reader package because BiisColumn is package private.
+ *
+ * usage: RoundTripCheck [rows]
+ */
+public class RoundTripCheck {
+    public static void main(String[] args) throws Exception {
+        BiisWorkbookGenerator generator = new BiisWorkbookGenerator();
+        if (args.length > 0) {
+            generator.setRows(Integer.parseInt(args[0]));
+        }
+        ByteArrayOutputStream workbook = new ByteArrayOutputStream();
+        generator.write(workbook);
+
+        Map<String, Property> imported = read(new ByteArrayInputStream(workbook.toByteArray()));
+        if (imported.isEmpty()) {
+            throw new IllegalStateException("no properties imported");
+        }
+
+        Container container = new Container();
+        container.getMaindata().getProperties().putAll(imported);
+        ByteArrayOutputStream export = new ByteArrayOutputStream();
+        Writer writer = new Writer();
+        ExportWorkerConfiguration config = new ExportWorkerConfiguration();
+        config.getStreams().put("biis-file", export);
+        writer.load(config);
+        writer.setContainer(container);
+
+        checkHeader(export.toByteArray());
+
+        Map<String, Property> reimported = read(new ByteArrayInputStream(export.toByteArray()));
+        ModelComparison.assertEqual("round trip", imported, reimported);
+
+        System.out.println("round trip ok: " + imported.size() + " properties");
+    }
+
+    private static Map<String, Property> read(InputStream stream) throws Exception {
+        Map<String, Property> properties = new LinkedHashMap<String, Property>();
+        Reader reader = new Reader();
+        ImportWorkerConfiguration config = new ImportWorkerConfiguration();
+        config.getStreams().put("biis-file", stream);
+        config.getIntegers().put("sheet-number", 1);
+        reader.load(config, new PropertyCollector(properties));
+        if (reader.getImportStatistics().getRowsFailed() > 0) {
+            throw new IllegalStateException("rows cannot be read: " + reader.getImportStatistics().getRowErrors());
+        }
+        return properties;
+    }
+
+    private static void checkHeader(byte[] export) throws Exception {
+        List<String> exportKeys = new ArrayList<String>();
+        XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(export));
+        try {
+            Row header = workbook.getSheetAt(0).getRow(0);
+            for (int columnIndex = 0; columnIndex < header.getLastCellNum(); columnIndex++) {
+                exportKeys.add(header.getCell(columnIndex).getStringCellValue());
+            }
+        } finally {
+            workbook.close();
+        }
+
+        List<String> readerKeys = new ArrayList<String>();
+        for (BiisColumn column : BiisColumn.values()) {
+            readerKeys.add(column.getKey());
+        }
+
+        if (!exportKeys.equals(readerKeys)) {
+            throw new IllegalStateException("columns of export and reader differ:\nexport: " + exportKeys + "\nreader: " + readerKeys);
+        }
+    }
+}
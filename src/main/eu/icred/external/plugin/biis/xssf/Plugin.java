@@ -1,6 +1,7 @@
 package eu.icred.external.plugin.biis.xssf;
 
 import eu.icred.external.plugin.biis.xssf.read.Reader;
+import eu.icred.external.plugin.biis.xssf.write.Writer;
 import eu.icred.plugin.IPlugin;
 import eu.icred.plugin.worker.input.IImportWorker;
 import eu.icred.plugin.worker.output.IExportWorker;
@@ -46,7 +47,7 @@ public class Plugin implements IPlugin {
 
     @Override
     public IExportWorker getExportPlugin() {
-        return null;
+        return new Writer();
     }
 
 }
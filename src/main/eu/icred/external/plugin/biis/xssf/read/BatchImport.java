@@ -0,0 +1,238 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.apache.log4j.Logger;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+
+import eu.icred.model.node.entity.Property;
+
+/**
+ * Imports several BIIS workbooks (and/or all of their sheets) into one set of
+ * properties.
+ *
+ * The workbooks are read with the event API (see
+ * {@link StreamingSheetReader}) on a fixed number of threads; a semaphore
+ * caps the number of workbooks which are open at the same time. Every
+ * workbook is read into properties of its own: if it fails, it is left out
+ * and the others are imported anyway. The results are merged in the order
+ * of the files, so the result does not depend on which file finished first
+ * (see {@link #run(PropertyListener)} for when the properties are passed on).
+ */
+final class BatchImport {
+    private static Logger logger = Logger.getLogger(BatchImport.class);
+
+    /**
+     * what to do with a property (ObjNoOwner) which has already been read
+     * from an earlier file
+     */
+    enum ConflictPolicy {
+        /** merge the valuations (later files win for the same valuation) */
+        MERGE,
+        /** keep the property of the earlier file */
+        FIRST,
+        /** replace it by the property of the later file */
+        LAST;
+
+        static ConflictPolicy forName(String name) {
+            if (name == null)
+                return MERGE;
+
+            return valueOf(name.toUpperCase());
+        }
+    }
+
+    private final List<File> files;
+    private final boolean allSheets;
+    private final Integer sheetIdx;
+    private final String sheetName;
+    private final int threads;
+    private final Semaphore openWorkbooks;
+    private final ConflictPolicy conflictPolicy;
+    private final ImportStatistics statistics;
+    private final boolean fullErrorReporting;
+
+    /**
+     * @param allSheets
+     *            read all sheets of each workbook instead of the one selected
+     *            by sheetIdx resp. sheetName (the first one if both are
+     *            <code>null</code>)
+     */
+    BatchImport(List<File> files, boolean allSheets, Integer sheetIdx, String sheetName, int threads, int maxOpenWorkbooks,
+            ConflictPolicy conflictPolicy, ImportStatistics statistics, boolean fullErrorReporting) {
+        this.files = files;
+        this.allSheets = allSheets;
+        this.sheetIdx = sheetIdx == null && sheetName == null ? Integer.valueOf(1) : sheetIdx;
+        this.sheetName = sheetName;
+        this.threads = threads;
+        this.openWorkbooks = new Semaphore(maxOpenWorkbooks);
+        this.conflictPolicy = conflictPolicy;
+        this.statistics = statistics;
+        this.fullErrorReporting = fullErrorReporting;
+    }
+
+    /**
+     * @return the Excel workbooks of a directory, sorted by name
+     */
+    static List<File> listWorkbooks(File directory) {
+        File[] files = directory.listFiles(new FileFilter() {
+            @Override
+            public boolean accept(File file) {
+                String name = file.getName().toLowerCase();
+                return file.isFile() && name.endsWith(".xlsx") && !name.startsWith("~$");
+            }
+        });
+        if (files == null) {
+            throw new IllegalArgumentException("cannot list directory " + directory);
+        }
+
+        Arrays.sort(files);
+        return Arrays.asList(files);
+    }
+
+    /**
+     * imports all files and hands the merged properties to the listener.
+     *
+     * The result of a file is merged as soon as it and all earlier files have
+     * been read, and released afterwards. With {@link ConflictPolicy#FIRST} a
+     * merged property cannot change any more: it is passed on right away and
+     * only its ObjNoOwner is kept. With {@link ConflictPolicy#MERGE} and
+     * {@link ConflictPolicy#LAST} a later file may still change any property,
+     * so the merged properties are buffered and passed on after the last
+     * file.
+     */
+    void run(PropertyListener listener) throws Exception {
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<FileResult>> results = new ArrayList<Future<FileResult>>(files.size());
+            for (final File file : files) {
+                results.add(executor.submit(new Callable<FileResult>() {
+                    @Override
+                    public FileResult call() throws Exception {
+                        openWorkbooks.acquire();
+                        try {
+                            return readFile(file);
+                        } finally {
+                            openWorkbooks.release();
+                        }
+                    }
+                }));
+            }
+
+            boolean passOn = conflictPolicy == ConflictPolicy.FIRST;
+            Set<String> passedOn = new HashSet<String>();
+            Map<String, Property> properties = new LinkedHashMap<String, Property>();
+            int conflicts = 0;
+            for (int i = 0; i < files.size(); i++) {
+                File file = files.get(i);
+                FileResult result;
+                try {
+                    result = results.get(i).get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (fullErrorReporting) {
+                        logger.error("cannot import " + file, cause);
+                    } else {
+                        logger.error("cannot import " + file + ": " + cause);
+                    }
+                    statistics.sourceFailed(file.getPath(), String.valueOf(cause));
+                    continue;
+                } finally {
+                    // the future would keep the properties of the file
+                    results.set(i, null);
+                }
+
+                statistics.add(result.statistics);
+                for (Map.Entry<String, Property> entry : result.properties.entrySet()) {
+                    if (passOn) {
+                        if (passedOn.add(entry.getKey())) {
+                            listener.propertyRead(entry.getKey(), entry.getValue());
+                        } else {
+                            conflicts++;
+                            logger.debug("property '" + entry.getKey() + "' of " + file + " has already been read (" + conflictPolicy + ")");
+                        }
+                        continue;
+                    }
+
+                    Property prop = properties.get(entry.getKey());
+                    if (prop == null) {
+                        properties.put(entry.getKey(), entry.getValue());
+                        continue;
+                    }
+
+                    conflicts++;
+                    logger.debug("property '" + entry.getKey() + "' of " + file + " has already been read (" + conflictPolicy + ")");
+                    if (conflictPolicy == ConflictPolicy.MERGE) {
+                        RowProcessor.mergeProperty(prop, entry.getValue());
+                    } else {
+                        properties.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            statistics.addRowsNanos(System.nanoTime() - start);
+
+            if (conflicts > 0) {
+                logger.warn(conflicts + " properties have been read from more than one file (" + conflictPolicy + ")");
+            }
+
+            for (Map.Entry<String, Property> entry : properties.entrySet()) {
+                listener.propertyRead(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FileResult readFile(File file) throws Exception {
+        FileResult result = new FileResult();
+        PropertyCollector collector = new PropertyCollector(result.properties);
+
+        long start = System.nanoTime();
+        OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+        try {
+            StreamingSheetReader sheetReader = new StreamingSheetReader(pkg);
+            result.statistics.addOpenNanos(System.nanoTime() - start);
+
+            if (allSheets) {
+                for (int idx = 1;; idx++) {
+                    RowProcessor rowProcessor = new RowProcessor(collector, null, result.statistics, fullErrorReporting, null);
+                    if (!sheetReader.readSheet(idx, null, rowProcessor)) {
+                        break;
+                    }
+                    rowProcessor.finish();
+                }
+            } else {
+                RowProcessor rowProcessor = new RowProcessor(collector, null, result.statistics, fullErrorReporting, null);
+                if (!sheetReader.readSheet(sheetIdx, sheetName, rowProcessor)) {
+                    throw new Exception("cannot find sheet " + (sheetIdx != null ? sheetIdx : sheetName));
+                }
+                rowProcessor.finish();
+            }
+        } finally {
+            pkg.revert();
+        }
+        return result;
+    }
+
+    private static class FileResult {
+        final Map<String, Property> properties = new LinkedHashMap<String, Property>();
+        final ImportStatistics statistics = new ImportStatistics();
+    }
+}
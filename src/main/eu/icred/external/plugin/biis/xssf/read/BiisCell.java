@@ -0,0 +1,164 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCell;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STCellType;
+
+/**
+ * Decoded value of a single BIIS sheet cell.
+ *
+ * Both the workbook (DOM) and the streaming (SAX) read mode produce instances
+ * of this class, so the conversion into the ICRED model is independent of the
+ * way the sheet was read. The accessors follow the semantics of the
+ * corresponding {@link Cell} methods.
+ *
+ * Formula cells are represented by their cached result (a cell without a
+ * cached result is blank): the formula text of shared formulas is only
+ * available with the whole workbook, so both modes ignore it.
+ */
+final class BiisCell {
+
+    private final int type;
+    private final String string;
+    private final double number;
+    private final boolean bool;
+    private final boolean dateFormatted;
+    private final boolean date1904;
+
+    private BiisCell(int type, String string, double number, boolean bool, boolean dateFormatted, boolean date1904) {
+        this.type = type;
+        this.string = string;
+        this.number = number;
+        this.bool = bool;
+        this.dateFormatted = dateFormatted;
+        this.date1904 = date1904;
+    }
+
+    static BiisCell blank() {
+        return new BiisCell(Cell.CELL_TYPE_BLANK, null, 0, false, false, false);
+    }
+
+    static BiisCell error() {
+        return new BiisCell(Cell.CELL_TYPE_ERROR, null, 0, false, false, false);
+    }
+
+    static BiisCell string(String value) {
+        return new BiisCell(Cell.CELL_TYPE_STRING, value, 0, false, false, false);
+    }
+
+    static BiisCell numeric(double value, boolean dateFormatted, boolean date1904) {
+        return new BiisCell(Cell.CELL_TYPE_NUMERIC, null, value, false, dateFormatted, date1904);
+    }
+
+    static BiisCell bool(boolean value) {
+        return new BiisCell(Cell.CELL_TYPE_BOOLEAN, null, 0, value, false, false);
+    }
+
+    /**
+     * decodes a cell of a {@link org.apache.poi.xssf.usermodel.XSSFWorkbook}
+     * (like {@link DateUtil#isCellDateFormatted(Cell)}, but with the date
+     * formats and shared strings of the cache)
+     */
+    static BiisCell of(XSSFCell cell, boolean date1904, DecodingCache cache) {
+        CTCell ctCell = cell.getCTCell();
+        switch (cell.getCellType()) {
+        case Cell.CELL_TYPE_STRING:
+            if (ctCell.getT() == STCellType.S && ctCell.isSetV() && ctCell.getV().length() > 0)
+                return string(cache.getSharedString(Integer.parseInt(ctCell.getV())));
+            return string(cell.getRichStringCellValue().getString());
+        case Cell.CELL_TYPE_NUMERIC:
+            double number = cell.getNumericCellValue();
+            return numeric(number, DateUtil.isValidExcelDate(number) && cache.isDateFormat((int) ctCell.getS()), date1904);
+        case Cell.CELL_TYPE_BOOLEAN:
+            return bool(cell.getBooleanCellValue());
+        case Cell.CELL_TYPE_FORMULA:
+            if (!ctCell.isSetV())
+                return blank();
+
+            switch (cell.getCachedFormulaResultType()) {
+            case Cell.CELL_TYPE_NUMERIC:
+                double result = cell.getNumericCellValue();
+                return numeric(result, DateUtil.isValidExcelDate(result) && cache.isDateFormat((int) ctCell.getS()), date1904);
+            case Cell.CELL_TYPE_BOOLEAN:
+                return bool(cell.getBooleanCellValue());
+            case Cell.CELL_TYPE_STRING:
+                return string(cell.getRichStringCellValue().getString());
+            default:
+                return error();
+            }
+        case Cell.CELL_TYPE_ERROR:
+            return error();
+        default:
+            return blank();
+        }
+    }
+
+    int getCellType() {
+        return type;
+    }
+
+    String getStringCellValue() {
+        if (type == Cell.CELL_TYPE_BLANK)
+            return "";
+        if (type != Cell.CELL_TYPE_STRING)
+            throw typeMismatch("text");
+
+        return string;
+    }
+
+    double getNumericCellValue() {
+        if (type == Cell.CELL_TYPE_BLANK)
+            return 0.0;
+        if (type != Cell.CELL_TYPE_NUMERIC)
+            throw typeMismatch("numeric");
+
+        return number;
+    }
+
+    Date getDateCellValue() {
+        if (type == Cell.CELL_TYPE_BLANK)
+            return null;
+
+        return DateUtil.getJavaDate(getNumericCellValue(), date1904);
+    }
+
+    boolean getBooleanCellValue() {
+        if (type == Cell.CELL_TYPE_BLANK)
+            return false;
+        if (type != Cell.CELL_TYPE_BOOLEAN)
+            throw typeMismatch("boolean");
+
+        return bool;
+    }
+
+    boolean isDateFormatted() {
+        return dateFormatted;
+    }
+
+    /**
+     * raw type and value of the cell (used for the row fingerprints)
+     */
+    @Override
+    public String toString() {
+        switch (type) {
+        case Cell.CELL_TYPE_STRING:
+            return "s:" + string;
+        case Cell.CELL_TYPE_NUMERIC:
+            return (dateFormatted ? (date1904 ? "d1904:" : "d:") : "n:") + number;
+        case Cell.CELL_TYPE_BOOLEAN:
+            return "b:" + bool;
+        case Cell.CELL_TYPE_ERROR:
+            return "e:";
+        default:
+            return "";
+        }
+    }
+
+    private IllegalStateException typeMismatch(String expected) {
+        return new IllegalStateException("Cannot get a " + expected + " value from a cell of type " + type);
+    }
+}
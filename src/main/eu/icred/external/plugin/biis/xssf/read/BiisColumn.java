@@ -0,0 +1,1069 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import static eu.icred.external.plugin.biis.xssf.read.BiisConverter.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.joda.time.Period;
+
+import eu.icred.model.datatype.enumeration.Country;
+
+/**
+ * The columns of a BIIS sheet.
+ *
+ * Each constant knows its BIIS key (the header text) and how a cell of its
+ * column is converted into the {@link BiisRow} being read. The header row is
+ * resolved once via {@link #forKey(String)}, afterwards every cell is
+ * dispatched by its column index.
+ */
+enum BiisColumn {
+    DATE("Date") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            // ignore - see field DateOfAppraisal
+        }
+    },
+
+    COMPLETION_DATE("CompletionDate") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setValuationDate(biis2gif_Date(cell));
+        }
+    },
+
+    DATA_SUPPLIER("DataSupplier") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setLabel(getCellStringValue(cell));
+            row.val.setExpertName(getCellStringValue(cell));
+        }
+    },
+
+    TYPE_OF_DATA_SUPPLIER("TypeOfDataSupplier") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            // ignore
+        }
+    },
+
+    AREAL_UNIT("ArealUnit") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.mainAreaMeasurement = biis2gif_AreaMeasureMent(getCellStringValue(cell));
+        }
+    },
+
+    ADDRESS_TYPE_STREET("AddressType_Street") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.valAddress.setStreet(getCellStringValue(cell));
+        }
+    },
+
+    ADDRESS_TYPE_POST_CODE("AddressType_PostCode") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.valAddress.setZip(getCellStringValue(cell));
+        }
+    },
+
+    ADDRESS_TYPE_TOWN("AddressType_Town") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.valAddress.setCity(getCellStringValue(cell));
+        }
+    },
+
+    ADDRESS_TYPE_ISO_COUNTRY_CODE_TYPE_COUNTRY("AddressType_ISOCountryCodeType_Country") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            String country = getCellStringValue(cell);
+            if (country != null && country.length() > 0)
+                row.valAddress.setCountry(Country.valueOf(country));
+        }
+    },
+
+    ADDRESS_TYPE_TEXT("AddressType_Text") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            String label = getCellStringValue(cell);
+            if (row.prop.getLabel() == null) {
+                row.prop.setLabel(label);
+            }
+            row.valAddress.setLabel(label);
+        }
+    },
+
+    OWNER("Owner") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setOwner(getCellStringValue(cell));
+        }
+    },
+
+    OBJ_NO_OWNER("ObjNoOwner") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            // the property is merged with the ones of other rows later on
+            // (see RowProcessor)
+            row.propId = getCellStringValue(cell);
+
+            row.prop.setObjectIdSender(row.propId);
+            row.prop.setObjectIdReceiver(row.propId);
+        }
+    },
+
+    OBJ_KO_WGS84_LONGITUDE("ObjKoWGS84Longitude") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.valAddress.setLongitude(biis2gif_Double(cell));
+        }
+    },
+
+    OBJ_KO_WGS84_LATITUDE("ObjKoWGS84Latitude") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.valAddress.setLatitude(biis2gif_Double(cell));
+        }
+    },
+
+    REBASE_TYPE1("RebaseType1") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setValuationType1(biis2gif_ValuationType1(getCellStringValue(cell)));
+        }
+    },
+
+    REBASE_TYPE2("RebaseType2") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setValuationType2(biis2gif_ValuationType2(getCellStringValue(cell)));
+        }
+    },
+
+    REBASE_OBJ_ADDITIONAL_INFORMATION("RebaseObjAdditionalInformation") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setNote(getCellStringValue(cell));
+        }
+    },
+
+    DATE_OF_APPRAISAL("DateOfAppraisal") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setValidFrom(biis2gif_Date(cell));
+            row.setObjectId();
+        }
+    },
+
+    QUALITY_DATE_OF_APPRAISAL("QualityDateOfAppraisal") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            // ignore
+        }
+    },
+
+    CURRENCY("Currency") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.mainCurrency = biis2gif_Currency(getCellStringValue(cell));
+            row.val.setCurrency(row.mainCurrency);
+        }
+    },
+
+    EXCHANGE_RATE1_EUR("ExchangeRate1EUR") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setExchangeRateToEUR(biis2gif_Double(cell));
+        }
+    },
+
+    DATE_EXCHANGE_RATE("DateExchangeRate") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setExchangeRateDate(biis2gif_Date(cell));
+        }
+    },
+
+    MAIN_TYPE_OF_USE("MainTypeOfUse") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setUseTypePrimary(biis2gif_UseType(getCellStringValue(cell)));
+        }
+    },
+
+    SHARE_MAIN_TYPE_OF_USE("ShareMainTypeOfUse") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setUseTypePrimaryShare(biis2gif_Double(cell));
+        }
+    },
+
+    ANCILLARY_TYPE_OF_USE("AncillaryTypeOfUse") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setUseTypeSecondary(biis2gif_UseType(getCellStringValue(cell)));
+        }
+    },
+
+    SHARE_ANCILLARY_TYPE_OF_USE("ShareAncillaryTypeOfUse") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setUseTypeSecondaryShare(biis2gif_Double(cell));
+        }
+    },
+
+    TYPE_OF_OWNERSHIP("TypeOfOwnership") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setOwnershipType(biis2gif_OwnershipType(cell));
+        }
+    },
+
+    SINGLE_TENANT("SingleTenant") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setSingleTenant(biis2gif_Boolean(cell));
+        }
+    },
+
+    PURCHASE_PRICE("PurchasePrice") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setPurchaseNetPrice(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    DATE_OF_PURCHASE("DateOfPurchase") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setPurchaseDate(biis2gif_Date(cell));
+        }
+    },
+
+    PRICE_OF_SALE("PriceOfSale") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setSaleNetPrice(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    DATE_OF_SALE("DateOfSale") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setSaleDate(biis2gif_Date(cell));
+        }
+    },
+
+    LOCATION_QUALITY("LocationQuality") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRetailLocation(biis2gif_RetailLocationType(getCellStringValue(cell)));
+        }
+    },
+
+    STRUCTURAL_CONDITION("StructuralCondition") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setCondition(biis2gif_Condition(getCellStringValue(cell)));
+        }
+    },
+
+    FIT_OUT_QUALITY("FitOutQuality") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setInteriorQuality(biis2gif_InteriorQuality(getCellStringValue(cell)));
+        }
+    },
+
+    STATE_OF_COMPLETION("StateOfCompletion") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setConstructionPhase(biis2gif_ConstructionPhase(getCellStringValue(cell)));
+        }
+    },
+
+    MAINTENANCE_BACKLOG("MaintenanceBacklog") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setMaintenanceBacklog(biis2gif_Boolean(cell));
+        }
+    },
+
+    FLOORS("Floors") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setFloorDescription(getCellStringValue(cell));
+        }
+    },
+
+    NORMAL_TOTAL_ECONOMIC_LIFE("NormalTotalEconomicLife") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double yearVal = biis2gif_Double(cell);
+            if (yearVal != null)
+                row.val.setNormalTotalEconomicLife(Period.years(yearVal.intValue()));
+        }
+    },
+
+    REMAINING_ECONOMIC_LIFE("RemainingEconomicLife") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double yearVal = biis2gif_Double(cell);
+            if (yearVal != null)
+                row.val.setRemainingEconomicLife(Period.years(yearVal.intValue()));
+        }
+    },
+
+    ORIGINAL_YEAR_OF_CONSTRUCTION("OriginalYearOfConstruction") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setConstructionDate(biis2gif_Year(cell));
+        }
+    },
+
+    CALCULATED_YEAR_OF_CONSTRUCTION("CalculatedYearOfConstruction") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setEconomicConstructionDate(biis2gif_Year(cell));
+        }
+    },
+
+    DATE_OF_CHANGE_FOR_REMAINING_ECONOMIC_LIFE("DateOfChangeForRemainingEconomicLife") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setChangeDateForRemainingEconomicLife(biis2gif_Date(cell));
+        }
+    },
+
+    LAND_SIZE("LandSize") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setPlotArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    FLOOR_TO_AREA_RATIO("FloorToAreaRatio") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setGfz(biis2gif_Double(cell));
+        }
+    },
+
+    SITE_COVERAGE_RATIO("SiteCoverageRatio") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setGrz(biis2gif_Double(cell));
+        }
+    },
+
+    GROSS_FLOOR_SPACE_OVERGROUND("GrossFloorSpaceOverground") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setGrossFloorSpaceOverground(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    GROSS_FLOOR_SPACE_BELOW_GROUND("GrossFloorSpaceBelowGround") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setGrossFloorSpaceBelowGround(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    TOTAL_GROSS_FLOOR_SPACE("TotalGrossFloorSpace") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setTotalGrossFloorSpace(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    TOTAL_RENTABLE_AREA("TotalRentableArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setTotalRentableArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RUNNING_COSTS("RunningCosts") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRunningCosts(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    MANAGEMENT_COSTS("ManagementCosts") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setManagementCosts(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    MAINTENANCE_EXPENSES("MaintenanceExpenses") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setMaintenanceExpenses(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENT_ALLOWANCE("RentAllowance") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentAllowance(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    OTHER_OPERATING_EXPENSES("OtherOperatingExpenses") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setOtherOperatingExpenses(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    CAPITALIZATION_RATE("CapitalizationRate") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setCapitalizationRate(biis2gif_Double(cell));
+        }
+    },
+
+    VALUE_BY_INCOME_APPROACH_WITHOUT_PREMIUMS_DISCOUNTS("ValueByIncomeApproachWithoutPremiumsDiscounts") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setValueByIncomeApproachWithoutPremiumsDiscounts(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    DISCOUNTS_PREMIUMS("DiscountsPremiums") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setDiscountsPremiums(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    DEDUCTION_FOR_VACANCY("DeductionForVacancy") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setDeductionForVacancy(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    DEDUCTION_CONSTRUCTION_WORKS("DeductionConstructionWorks") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setDeductionConstructionWorks(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    OTHERS_DISCOUNTS_PREMIUMS("OthersDiscountsPremiums") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setOthersDiscountsPremiums(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    VALUE_BY_INCOME_APPROACH("ValueByIncomeApproach") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setValueByIncomeApproach(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    COST_APPROACH("CostApproach") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setCostApproach(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    LAND_VALUE("LandValue") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setLandValue(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    MARKET_VALUE("MarketValue") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setFairValue(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    GROUND_LEASE("GroundLease") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setGroundLease(biis2gif_Boolean(cell));
+        }
+    },
+
+    REMAINING_LIFE_OF_GROUND_LEASE("RemainingLifeOfGroundLease") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRemainingLifeOfGroundLease(biis2gif_Period(cell));
+        }
+    },
+
+    GROUND_RENT("GroundRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setGroundRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    GROUND_LEASE_REMARKS("GroundLeaseRemarks") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setGroundLeaseRemarks(getCellStringValue(cell));
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_LET_AREA("RentalSituationOfficeLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationOfficeLetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_CONTRACTUAL_ANNUAL_RENT("RentalSituationOfficeContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationOfficeContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationOfficeEstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationOfficeEstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_VACANT_AREA("RentalSituationOfficeVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationOfficeVacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationOfficeEstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationOfficeEstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_LET_AREA("RentalSituationRetailLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationRetailLetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_CONTRACTUAL_ANNUAL_RENT("RentalSituationRetailContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationRetailContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationRetailEstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationRetailEstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_VACANT_AREA("RentalSituationRetailVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationRetailVacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationRetailEstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationRetailEstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_LET_AREA("RentalSituationStorageLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationStorageLetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_CONTRACTUAL_ANNUAL_RENT("RentalSituationStorageContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationStorageContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationStorageEstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationStorageEstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_VACANT_AREA("RentalSituationStorageVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationStorageVacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationStorageEstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationStorageEstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_LET_AREA("RentalSituationArchiveLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationArchiveLetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_CONTRACTUAL_ANNUAL_RENT("RentalSituationArchiveContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationArchiveContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationArchiveEstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationArchiveEstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_VACANT_AREA("RentalSituationArchiveVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationArchiveVacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationArchiveEstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationArchiveEstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_LET_AREA("RentalSituationGastroLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationGastroLetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_CONTRACTUAL_ANNUAL_RENT("RentalSituationGastroContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationGastroContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationGastroEstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationGastroEstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_VACANT_AREA("RentalSituationGastroVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationGastroVacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationGastroEstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationGastroEstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_LET_AREA("RentalSituationResidentialLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationResidentialLetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_CONTRACTUAL_ANNUAL_RENT("RentalSituationResidentialContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationResidentialContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationResidentialEstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationResidentialEstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_VACANT_AREA("RentalSituationResidentialVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationResidentialVacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationResidentialEstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationResidentialEstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_LET_AREA("RentalSituationHotelLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationHotelLetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_CONTRACTUAL_ANNUAL_RENT("RentalSituationHotelContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationHotelContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationHotelEstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationHotelEstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_VACANT_AREA("RentalSituationHotelVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationHotelVacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationHotelEstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationHotelEstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_LET_AREA("RentalSituationLeisureLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationLeisureLetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_CONTRACTUAL_ANNUAL_RENT("RentalSituationLeisureContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationLeisureContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationLeisureEstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationLeisureEstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_VACANT_AREA("RentalSituationLeisureVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationLeisureVacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationLeisureEstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationLeisureEstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_LET_NUMBERS("RentalSituationIndoorparkingLetNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double number = biis2gif_Double(cell);
+            if (number != null)
+                row.val.setRentalSituationIndoorparkingLetNumbers(number.intValue());
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_CONTRACTUAL_ANNUAL_RENT("RentalSituationIndoorparkingContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationIndoorparkingContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_ESTIMATED_ANNUAL_RENT_FOR_LET_NUMBERS("RentalSituationIndoorparkingEstimatedAnnualRentForLetNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationIndoorparkingEstimatedAnnualRentForLetNumbers(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_VACANT_NUMBERS("RentalSituationIndoorparkingVacantNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double number = biis2gif_Double(cell);
+            if (number != null)
+                row.val.setRentalSituationIndoorparkingVacantNumbers(number.intValue());
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_ESTIMATED_ANNUAL_RENT_FOR_VACANT_NUMBERS("RentalSituationIndoorparkingEstimatedAnnualRentForVacantNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationIndoorparkingEstimatedAnnualRentForVacantNumbers(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_LET_NUMBERS("RentalSituationOutsideparkingLetNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double number = biis2gif_Double(cell);
+            if (number != null)
+                row.val.setRentalSituationOutsideparkingLetNumbers(number.intValue());
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_CONTRACTUAL_ANNUAL_RENT("RentalSituationOutsideparkingContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationOutsideparkingContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_ESTIMATED_ANNUAL_RENT_FOR_LET_NUMBERS("RentalSituationOutsideparkingEstimatedAnnualRentForLetNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationOutsideparkingEstimatedAnnualRentForLetNumbers(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_VACANT_NUMBERS("RentalSituationOutsideparkingVacantNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double number = biis2gif_Double(cell);
+            if (number != null)
+                row.val.setRentalSituationOutsideparkingVacantNumbers(number.intValue());
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_ESTIMATED_ANNUAL_RENT_FOR_VACANT_NUMBERS("RentalSituationOutsideparkingEstimatedAnnualRentForVacantNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationOutsideparkingEstimatedAnnualRentForVacantNumbers(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_LET_AREA("RentalSituationMiscArea1LetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea1LetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_CONTRACTUAL_ANNUAL_RENT("RentalSituationMiscArea1ContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea1ContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationMiscArea1EstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea1EstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_VACANT_AREA("RentalSituationMiscArea1VacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea1VacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationMiscArea1EstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea1EstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_LET_AREA("RentalSituationMiscArea2LetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea2LetArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_CONTRACTUAL_ANNUAL_RENT("RentalSituationMiscArea2ContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea2ContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationMiscArea2EstimatedAnnualRentForLetArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea2EstimatedAnnualRentForLetArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_VACANT_AREA("RentalSituationMiscArea2VacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea2VacantArea(biis2gif_Area(cell, row.mainAreaMeasurement));
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationMiscArea2EstimatedAnnualRentForVacantArea") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscArea2EstimatedAnnualRentForVacantArea(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_LET_NUMBERS("RentalSituationMiscnumbers1LetNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double number = biis2gif_Double(cell);
+            if (number != null)
+                row.val.setRentalSituationMiscnumbers1LetNumbers(number.intValue());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_CONTRACTUAL_ANNUAL_RENT("RentalSituationMiscnumbers1ContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscnumbers1ContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_ESTIMATED_ANNUAL_RENT_FOR_LET_NUMBERS("RentalSituationMiscnumbers1EstimatedAnnualRentForLetNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscnumbers1EstimatedAnnualRentForLetNumbers(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_VACANT_NUMBERS("RentalSituationMiscnumbers1VacantNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double number = biis2gif_Double(cell);
+            if (number != null)
+                row.val.setRentalSituationMiscnumbers1VacantNumbers(number.intValue());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_ESTIMATED_ANNUAL_RENT_FOR_VACANT_NUMBERS("RentalSituationMiscnumbers1EstimatedAnnualRentForVacantNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscnumbers1EstimatedAnnualRentForVacantNumbers(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_LET_NUMBERS("RentalSituationMiscnumbers2LetNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double number = biis2gif_Double(cell);
+            if (number != null)
+                row.val.setRentalSituationMiscnumbers2LetNumbers(number.intValue());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_CONTRACTUAL_ANNUAL_RENT("RentalSituationMiscnumbers2ContractualAnnualRent") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscnumbers2ContractualAnnualRent(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_ESTIMATED_ANNUAL_RENT_FOR_LET_NUMBERS("RentalSituationMiscnumbers2EstimatedAnnualRentForLetNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscnumbers2EstimatedAnnualRentForLetNumbers(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_VACANT_NUMBERS("RentalSituationMiscnumbers2VacantNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            Double number = biis2gif_Double(cell);
+            if (number != null)
+                row.val.setRentalSituationMiscnumbers2VacantNumbers(number.intValue());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_ESTIMATED_ANNUAL_RENT_FOR_VACANT_NUMBERS("RentalSituationMiscnumbers2EstimatedAnnualRentForVacantNumbers") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setRentalSituationMiscnumbers2EstimatedAnnualRentForVacantNumbers(biis2gif_Amount(cell, row.mainCurrency));
+        }
+    },
+
+    DATA_SUPPLIER_NUMBER("DataSupplierNumber") {
+        @Override
+        void convert(BiisRow row, BiisCell cell) {
+            row.val.setExpertId(getCellStringValue(cell));
+            row.setObjectId();
+        }
+    };
+
+    private static final Map<String, BiisColumn> BY_KEY = new HashMap<String, BiisColumn>();
+
+    static {
+        for (BiisColumn column : values()) {
+            BY_KEY.put(column.key, column);
+        }
+    }
+
+    private final String key;
+
+    private BiisColumn(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the BIIS key (header text) of this column
+     */
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the column with the given BIIS key or <code>null</code> if the
+     *         key is unknown
+     */
+    static BiisColumn forKey(String key) {
+        if (key == null)
+            return null;
+
+        return BY_KEY.get(key);
+    }
+
+    abstract void convert(BiisRow row, BiisCell cell);
+}
@@ -0,0 +1,328 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.Currency;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.joda.time.LocalDate;
+import org.joda.time.Period;
+
+import eu.icred.model.datatype.Amount;
+import eu.icred.model.datatype.Area;
+import eu.icred.model.datatype.enumeration.AreaMeasurement;
+import eu.icred.model.datatype.enumeration.AreaType;
+import eu.icred.model.datatype.enumeration.ConstructionPhase;
+import eu.icred.model.datatype.enumeration.InteriorQuality;
+import eu.icred.model.datatype.enumeration.ObjectCondition;
+import eu.icred.model.datatype.enumeration.OwnershipType;
+import eu.icred.model.datatype.enumeration.RetailLocationType;
+import eu.icred.model.datatype.enumeration.UseType;
+import eu.icred.model.datatype.enumeration.ValuationType1;
+import eu.icred.model.datatype.enumeration.ValuationType2;
+
+/**
+ * Conversion of BIIS cell values into ICRED datatypes.
+ */
+final class BiisConverter {
+    private static final Pattern YEAR_PATTERN = Pattern.compile("[0-9.-]+");
+
+    /**
+     * BIIS values of the enumerations (shared strings are decoded into one
+     * instance per value, so their hash code is computed only once)
+     */
+    private static final Map<String, AreaMeasurement> AREA_MEASUREMENTS = new HashMap<String, AreaMeasurement>();
+    private static final Map<String, ConstructionPhase> CONSTRUCTION_PHASES = new HashMap<String, ConstructionPhase>();
+    private static final Map<String, ValuationType1> VALUATION_TYPES1 = new HashMap<String, ValuationType1>();
+    private static final Map<String, ValuationType2> VALUATION_TYPES2 = new HashMap<String, ValuationType2>();
+    private static final Map<String, UseType> USE_TYPES = new HashMap<String, UseType>();
+    private static final Map<String, RetailLocationType> RETAIL_LOCATION_TYPES = new HashMap<String, RetailLocationType>();
+    private static final Map<String, ObjectCondition> CONDITIONS = new HashMap<String, ObjectCondition>();
+    private static final Map<String, InteriorQuality> INTERIOR_QUALITIES = new HashMap<String, InteriorQuality>();
+
+    private static final OwnershipType[] OWNERSHIP_TYPES = {
+            OwnershipType.OTHER, // 0 - unbekannt
+            OwnershipType.OTHER, // 1 - Dingliches Nutzungsrecht
+            OwnershipType.LEASEHOLD, // 2 - Erbbaurecht
+            OwnershipType.OTHER, // 3 - gemischte Eigentumsform
+            OwnershipType.OTHER, // 4 - Teileigentum
+            OwnershipType.FREEHOLDER, // 5 - Volleigentum
+            OwnershipType.OTHER // 6 - Volumeneigentum
+    };
+
+    private static final ConcurrentMap<String, Currency> CURRENCIES = new ConcurrentHashMap<String, Currency>();
+
+    static {
+        AREA_MEASUREMENTS.put("sqft", AreaMeasurement.SQFT);
+        AREA_MEASUREMENTS.put("qm", AreaMeasurement.SQM);
+        AREA_MEASUREMENTS.put("tsubo", AreaMeasurement.TSUBO);
+        AREA_MEASUREMENTS.put("pyeong", AreaMeasurement.TSUBO);
+
+        CONSTRUCTION_PHASES.put("F", ConstructionPhase.COMPLETED);
+        CONSTRUCTION_PHASES.put("I", ConstructionPhase.IN_COMPLETION);
+        CONSTRUCTION_PHASES.put("P", ConstructionPhase.PLANNED);
+
+        VALUATION_TYPES1.put("Fondsgutachten", ValuationType1.FUND);
+        VALUATION_TYPES1.put("Privatgutachten", ValuationType1.PRIVATE);
+        VALUATION_TYPES1.put("Gerichtsgutachten", ValuationType1.COURT);
+        VALUATION_TYPES1.put("Fremdgutachten", ValuationType1.THIRD_PERSON);
+
+        VALUATION_TYPES2.put("U", ValuationType2.UNKNOWN);
+        VALUATION_TYPES2.put("E", ValuationType2.FIRST_VALUATION);
+        VALUATION_TYPES2.put("N", ValuationType2.REVALUATION);
+        VALUATION_TYPES2.put("V", ValuationType2.MARKET_VALUATION_REPORT);
+
+        USE_TYPES.put("Buero", UseType.OFFICE);
+        USE_TYPES.put("Handel", UseType.RETAIL);
+        USE_TYPES.put("Industrie(Lager,Hallen)", UseType.INDUSTRY);
+        USE_TYPES.put("Keller/Archiv", UseType.OTHER);
+        USE_TYPES.put("Gastronomie", UseType.GASTRONOMY);
+        USE_TYPES.put("Hotel", UseType.HOTEL);
+        USE_TYPES.put("Wohnen", UseType.RESIDENTIAL);
+        USE_TYPES.put("Freizeit", UseType.LEISURE);
+        USE_TYPES.put("Garage/TG", UseType.PARKING);
+        USE_TYPES.put("Aussenstellplaetze", UseType.PARKING);
+        USE_TYPES.put("unbekannt", UseType.NOT_SPECIFIED);
+
+        RETAIL_LOCATION_TYPES.put("1a", RetailLocationType.HIGH_STREET);
+        RETAIL_LOCATION_TYPES.put("1b", RetailLocationType.CITY_CENTRE_OTHER);
+        RETAIL_LOCATION_TYPES.put("2a", RetailLocationType.MAJOR_ROUTE);
+        RETAIL_LOCATION_TYPES.put("2b", RetailLocationType.SUBURBAN_OTHER);
+        RETAIL_LOCATION_TYPES.put("c", RetailLocationType.NON_URBAN);
+        RETAIL_LOCATION_TYPES.put("(unbekannt)", RetailLocationType.UNKNOWN);
+        RETAIL_LOCATION_TYPES.put("unbekannt", RetailLocationType.UNKNOWN);
+
+        CONDITIONS.put("sehr gut", ObjectCondition.NEW);
+        CONDITIONS.put("gut", ObjectCondition.AGE_APPROPRIATE);
+        CONDITIONS.put("durchschnittlich", ObjectCondition.AGE_APPROPRIATE);
+        CONDITIONS.put("schlecht", ObjectCondition.IN_NEED_OF_REPAIR);
+        CONDITIONS.put("(unbekannt)", ObjectCondition.NOT_AVAILABLE);
+
+        INTERIOR_QUALITIES.put("stark gehoben", InteriorQuality.LUXURY);
+        INTERIOR_QUALITIES.put("gehoben", InteriorQuality.SOPHISTICATED);
+        INTERIOR_QUALITIES.put("mittel", InteriorQuality.NORMAL);
+        INTERIOR_QUALITIES.put("einfach", InteriorQuality.SIMPLE);
+        INTERIOR_QUALITIES.put("(unbekannt)", InteriorQuality.SIMPLE);
+    }
+
+    private BiisConverter() {
+    }
+
+    static AreaMeasurement biis2gif_AreaMeasureMent(String biisValue) {
+        if (biisValue == null)
+            return null;
+
+        AreaMeasurement value = AREA_MEASUREMENTS.get(biisValue);
+        if (value == null)
+            return AreaMeasurement.NOT_SPECIFIED;
+
+        return value;
+    }
+
+    static Currency biis2gif_Currency(String biisValue) {
+        Currency currency = CURRENCIES.get(biisValue);
+        if (currency == null) {
+            currency = Currency.getInstance(biisValue);
+            CURRENCIES.put(biisValue, currency);
+        }
+        return currency;
+    }
+
+    static LocalDate biis2gif_Date(BiisCell cell) {
+        if (cell == null)
+            return null;
+
+        Date dateVal = cell.getDateCellValue();
+
+        if (dateVal == null)
+            return null;
+
+        return LocalDate.fromDateFields(dateVal);
+    }
+
+    static LocalDate biis2gif_Year(BiisCell cell) {
+        if (cell == null)
+            return null;
+
+        String yearStr = getCellStringValue(cell);
+        if (yearStr == null)
+            return null;
+
+        if (!YEAR_PATTERN.matcher(yearStr).matches()) {
+            throw new Error("cell value doesn't matches pattern: [0-9.-]+");
+        }
+
+        return LocalDate.parse(yearStr.substring(0, 4) + "-01-01");
+    }
+
+    static Boolean biis2gif_Boolean(BiisCell cell) {
+        if (cell == null)
+            return null;
+
+        if (cell.getCellType() == Cell.CELL_TYPE_BOOLEAN) {
+            return cell.getBooleanCellValue();
+        } else {
+            String strVal = getCellStringValue(cell);
+            if (strVal.toUpperCase().equals("TRUE")) {
+                return true;
+            }
+            if (strVal.toUpperCase().equals("FALSE")) {
+                return false;
+            }
+        }
+
+        return null;
+    }
+
+    static Area biis2gif_Area(BiisCell cell, AreaMeasurement areaMeasurement) {
+        Double val = biis2gif_Double(cell);
+        if (val == null)
+            return null;
+
+        return new Area(val, areaMeasurement, AreaType.NOT_SPECIFIED);
+    }
+
+    static Amount biis2gif_Amount(BiisCell cell, Currency currency) {
+        Double val = biis2gif_Double(cell);
+        if (val == null)
+            return null;
+
+        return new Amount(val, currency);
+    }
+
+    static Double biis2gif_Double(BiisCell cell) {
+        if (cell == null)
+            return null;
+
+        if (cell.getCellType() != Cell.CELL_TYPE_NUMERIC)
+            return null;
+
+        return cell.getNumericCellValue();
+    }
+
+    static Period biis2gif_Period(BiisCell cell) {
+        Double value = biis2gif_Double(cell);
+        
+        return Period.years(value.intValue());
+    }
+
+    static ConstructionPhase biis2gif_ConstructionPhase(String biisValue) {
+        if (biisValue == null)
+            return null;
+
+        ConstructionPhase value = CONSTRUCTION_PHASES.get(biisValue);
+        if (value == null && biisValue.startsWith("0"))
+            return ConstructionPhase.OTHER;
+        if (value == null)
+            throw new Error("unknown enumeration value");
+
+        return value;
+    }
+
+    static ValuationType1 biis2gif_ValuationType1(String biisValue) {
+        if (biisValue == null)
+            return null;
+
+        ValuationType1 value = VALUATION_TYPES1.get(biisValue);
+        if (value == null)
+            throw new Error("unknown enumeration value");
+
+        return value;
+    }
+
+    static ValuationType2 biis2gif_ValuationType2(String biisValue) {
+        if (biisValue == null)
+            return null;
+
+        ValuationType2 value = VALUATION_TYPES2.get(biisValue);
+        if (value == null)
+            throw new Error("unknown enumeration value");
+
+        return value;
+    }
+
+    static UseType biis2gif_UseType(String biisValue) {
+        if (biisValue == null)
+            return null;
+
+        UseType value = USE_TYPES.get(biisValue);
+        if (value == null)
+            throw new Error("unknown enumeration value");
+
+        return value;
+    }
+
+    static OwnershipType biis2gif_OwnershipType(BiisCell cell) {
+        if (cell == null)
+            return null;
+
+        int biisValue = getCellStringValue(cell).charAt(0) - '0';
+        if (biisValue < 0 || biisValue >= OWNERSHIP_TYPES.length) {
+            throw new Error("unknown enumeration value");
+        }
+
+        return OWNERSHIP_TYPES[biisValue];
+    }
+
+    static RetailLocationType biis2gif_RetailLocationType(String biisValue) {
+        if (biisValue == null)
+            return null;
+
+        RetailLocationType value = RETAIL_LOCATION_TYPES.get(biisValue);
+        if (value == null)
+            throw new Error("unknown enumeration value");
+
+        return value;
+    }
+
+    static ObjectCondition biis2gif_Condition(String biisValue) {
+        if (biisValue == null)
+            return null;
+
+        ObjectCondition value = CONDITIONS.get(biisValue);
+        if (value == null)
+            throw new Error("unknown enumeration value");
+
+        return value;
+    }
+
+    static InteriorQuality biis2gif_InteriorQuality(String biisValue) {
+        if (biisValue == null)
+            return null;
+
+        InteriorQuality value = INTERIOR_QUALITIES.get(biisValue);
+        if (value == null)
+            throw new Error("unknown enumeration value");
+
+        return value;
+    }
+
+    static String getCellStringValue(BiisCell cell) {
+        Object obj = getCellValueObject(cell);
+        if (obj == null)
+            return null;
+
+        return obj.toString();
+    }
+
+    static Object getCellValueObject(BiisCell cell) {
+        switch (cell.getCellType()) {
+        case Cell.CELL_TYPE_STRING:
+            return cell.getStringCellValue();
+        case Cell.CELL_TYPE_NUMERIC:
+            if (cell.isDateFormatted()) {
+                return cell.getDateCellValue();
+            } else {
+                return cell.getNumericCellValue();
+            }
+        case Cell.CELL_TYPE_BOOLEAN:
+            return cell.getBooleanCellValue();
+        default:
+            return null;
+        }
+    }
+}
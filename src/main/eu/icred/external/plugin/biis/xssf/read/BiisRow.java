@@ -0,0 +1,53 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+
+import eu.icred.model.datatype.enumeration.AreaMeasurement;
+import eu.icred.model.node.entity.Property;
+import eu.icred.model.node.entity.Valuation;
+import eu.icred.model.node.group.Address;
+
+/**
+ * State of a single BIIS row while its cells are converted.
+ *
+ * A row is converted on its own: it gets a fresh {@link Property} which is
+ * merged into the properties of the other rows by its {@link #propId}
+ * afterwards.
+ */
+class BiisRow {
+    final int rowIndex;
+
+    String propId = null;
+    final Property prop = new Property();
+    final Valuation val = new Valuation();
+    final Address valAddress = new Address();
+
+    Currency mainCurrency = null;
+    AreaMeasurement mainAreaMeasurement = null;
+
+    /** set in the incremental read mode only (see {@link FingerprintIndex}) */
+    String valuationId = null;
+    String fingerprint = null;
+    boolean failed = false;
+
+    BiisRow(int rowIndex) {
+        this.rowIndex = rowIndex;
+        val.setAddress(valAddress);
+    }
+
+    void setObjectId() {
+        if (val.getExpertId() != null && val.getValidFrom() != null) {
+            String valId = val.getExpertId() + "_" + val.getValidFrom().toString();
+            val.setObjectIdSender(valId);
+
+            Map<String, Valuation> valuations = prop.getValuations();
+            if (valuations == null) {
+                valuations = new HashMap<String, Valuation>();
+            }
+            valuations.put(valId, val);
+            prop.setValuations(valuations);
+        }
+    }
+}
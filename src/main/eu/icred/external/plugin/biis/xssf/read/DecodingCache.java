@@ -0,0 +1,74 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.Arrays;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+/**
+ * Per-workbook caches of the cell decoding.
+ *
+ * Whether a style is a date format is resolved once per style index instead
+ * of once per numeric cell, and every shared string is decoded once, so
+ * equal cells share one {@link String} instance (which keeps the lookups of
+ * the enumeration converters cheap). Not thread-safe: only used by the
+ * thread which reads the sheet.
+ */
+final class DecodingCache {
+    private static final byte UNKNOWN = 0;
+    private static final byte DATE = 1;
+    private static final byte NO_DATE = 2;
+
+    private final StylesTable styles;
+    private final SharedStringsTable sharedStrings;
+
+    private byte[] dateFormats = new byte[0];
+    private String[] strings = new String[0];
+
+    /**
+     * @param sharedStrings
+     *            source of {@link #getSharedString(int)} or <code>null</code>
+     *            if the strings are resolved elsewhere
+     */
+    DecodingCache(StylesTable styles, SharedStringsTable sharedStrings) {
+        this.styles = styles;
+        this.sharedStrings = sharedStrings;
+    }
+
+    boolean isDateFormat(int styleIndex) {
+        if (styleIndex < 0)
+            return false;
+
+        if (styleIndex >= dateFormats.length)
+            dateFormats = Arrays.copyOf(dateFormats, Math.max(styleIndex + 1, dateFormats.length * 2));
+
+        if (dateFormats[styleIndex] == UNKNOWN)
+            dateFormats[styleIndex] = resolveDateFormat(styleIndex) ? DATE : NO_DATE;
+
+        return dateFormats[styleIndex] == DATE;
+    }
+
+    private boolean resolveDateFormat(int styleIndex) {
+        if (styles == null || styles.getNumCellStyles() <= styleIndex)
+            return false;
+
+        XSSFCellStyle style = styles.getStyleAt(styleIndex);
+        if (style == null)
+            return false;
+
+        return DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+    }
+
+    String getSharedString(int index) {
+        if (index >= strings.length)
+            strings = Arrays.copyOf(strings, Math.max(index + 1, strings.length * 2));
+
+        if (strings[index] == null)
+            strings[index] = new XSSFRichTextString(sharedStrings.getEntryAt(index)).getString();
+
+        return strings[index];
+    }
+}
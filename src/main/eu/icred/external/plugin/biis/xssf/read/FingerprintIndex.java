@@ -0,0 +1,206 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+
+/**
+ * On-disk index of the row fingerprints of the previous import, used for the
+ * incremental read mode.
+ *
+ * A fingerprint is a hash of the raw cell values of a row (together with the
+ * BIIS columns they belong to), keyed by the ID of the valuation of the row.
+ * All rows are read as usual, the fingerprints only decide whether a
+ * valuation counts as added, changed or unchanged (see {@link ImportDelta}).
+ * Rows which cannot be read are not stored, so they count as changed next
+ * time.
+ *
+ * For valuation IDs which occur in more than one row of the sheet, the index
+ * stores a combined fingerprint of all of their rows (in sheet order).
+ *
+ * The index is a properties file (valuation ID = fingerprint) and is only
+ * replaced by {@link #store()}.
+ */
+final class FingerprintIndex {
+    private static Logger logger = Logger.getLogger(FingerprintIndex.class);
+
+    /**
+     * part of every fingerprint: to be increased whenever the conversion of
+     * the cells changes, so the rows of older indexes count as changed
+     */
+    private static final int FORMAT_VERSION = 2;
+    private static final String DUPLICATE_PREFIX = "dup:";
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final File file;
+    private final Map<String, String> previous = new HashMap<String, String>();
+    private final Map<String, String> current = new HashMap<String, String>();
+    private final Map<String, Integer> rowCounts = new HashMap<String, Integer>();
+    private final Set<String> failed = new HashSet<String>();
+    private final ImportDelta delta = new ImportDelta();
+
+    FingerprintIndex(File file) throws IOException {
+        this.file = file;
+
+        if (file.exists()) {
+            Properties properties = new Properties();
+            InputStream in = new FileInputStream(file);
+            try {
+                properties.load(in);
+            } finally {
+                in.close();
+            }
+            for (String valuationId : properties.stringPropertyNames()) {
+                previous.put(valuationId, properties.getProperty(valuationId));
+            }
+        }
+    }
+
+    /**
+     * records the fingerprint of a row (in sheet order)
+     *
+     * @param success
+     *            <code>false</code> if the row could not be read: the
+     *            valuation is not stored
+     */
+    void update(String valuationId, String fingerprint, boolean success) {
+        Integer rowCount = rowCounts.get(valuationId);
+        rowCounts.put(valuationId, rowCount == null ? 1 : rowCount + 1);
+
+        if (!success) {
+            failed.add(valuationId);
+            return;
+        }
+
+        String fingerprints = current.get(valuationId);
+        current.put(valuationId, fingerprints == null ? fingerprint : fingerprints + "," + fingerprint);
+    }
+
+    /**
+     * compares the fingerprints of this import with the previous one
+     *
+     * @return the difference to the previous import; valuations which have not
+     *         been passed to {@link #update} count as removed
+     */
+    ImportDelta finish(ImportStatistics statistics) {
+        ImportDelta delta = new ImportDelta();
+        int duplicates = 0;
+        for (Map.Entry<String, Integer> rowCount : rowCounts.entrySet()) {
+            String valuationId = rowCount.getKey();
+            if (failed.contains(valuationId)) {
+                current.remove(valuationId);
+            } else if (rowCount.getValue() > 1) {
+                current.put(valuationId, DUPLICATE_PREFIX + hash(current.get(valuationId)));
+            }
+            if (rowCount.getValue() > 1) {
+                duplicates++;
+            }
+
+            String previousFingerprint = previous.get(valuationId);
+            if (previousFingerprint == null) {
+                delta.added(valuationId);
+            } else if (!previousFingerprint.equals(current.get(valuationId))) {
+                delta.changed(valuationId);
+            } else {
+                delta.unchanged(valuationId);
+                statistics.rowsUnchanged(rowCount.getValue());
+            }
+        }
+
+        for (String valuationId : previous.keySet()) {
+            if (!rowCounts.containsKey(valuationId)) {
+                delta.removed(valuationId);
+            }
+        }
+
+        if (duplicates > 0) {
+            logger.warn(duplicates + " valuation IDs occur in more than one row");
+        }
+        return delta;
+    }
+
+    /**
+     * replaces the index file with the fingerprints of this import
+     */
+    void store() throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(current);
+
+        File tempFile = new File(file.getPath() + ".tmp");
+        OutputStream out = new FileOutputStream(tempFile);
+        try {
+            properties.store(out, "BIIS row fingerprints");
+        } finally {
+            out.close();
+        }
+
+        if (file.exists() && !file.delete()) {
+            throw new IOException("cannot replace " + file);
+        }
+        if (!tempFile.renameTo(file)) {
+            throw new IOException("cannot rename " + tempFile + " to " + file);
+        }
+    }
+
+    /**
+     * hashes the raw values of the cells of all known columns
+     */
+    static String fingerprint(BiisColumn[] columns, BiisCell[] cells) {
+        MessageDigest digest = newDigest();
+        digest.update(("v" + FORMAT_VERSION + "\n").getBytes(UTF8));
+
+        int colCounts = Math.min(cells.length, columns.length);
+        for (int columnIndex = 0; columnIndex < colCounts; columnIndex++) {
+            BiisCell cell = cells[columnIndex];
+            BiisColumn column = columns[columnIndex];
+            if (cell == null || column == null) {
+                continue;
+            }
+
+            digest.update(column.getKey().getBytes(UTF8));
+            digest.update((byte) '=');
+            digest.update(cell.toString().getBytes(UTF8));
+            digest.update((byte) '\n');
+        }
+
+        return toHex(digest.digest());
+    }
+
+    private static String hash(String value) {
+        MessageDigest digest = newDigest();
+        digest.update(value.getBytes(UTF8));
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] hash) {
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
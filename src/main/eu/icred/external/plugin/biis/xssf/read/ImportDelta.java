@@ -0,0 +1,74 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Valuations which differ from the previous import of an incremental
+ * {@link Reader#load} call (see {@link FingerprintIndex}), identified by
+ * their ID (DataSupplierNumber_DateOfAppraisal).
+ */
+public class ImportDelta {
+
+    private final SortedSet<String> added = new TreeSet<String>();
+    private final SortedSet<String> changed = new TreeSet<String>();
+    private final SortedSet<String> removed = new TreeSet<String>();
+    private final SortedSet<String> unchanged = new TreeSet<String>();
+
+    void added(String valuationId) {
+        added.add(valuationId);
+    }
+
+    void changed(String valuationId) {
+        changed.add(valuationId);
+    }
+
+    void removed(String valuationId) {
+        removed.add(valuationId);
+    }
+
+    void unchanged(String valuationId) {
+        unchanged.add(valuationId);
+    }
+
+    /**
+     * @return valuations which were not part of the previous import
+     */
+    public SortedSet<String> getAddedValuations() {
+        return Collections.unmodifiableSortedSet(added);
+    }
+
+    /**
+     * @return valuations whose row differs from the previous import
+     */
+    public SortedSet<String> getChangedValuations() {
+        return Collections.unmodifiableSortedSet(changed);
+    }
+
+    /**
+     * @return valuations of the previous import which are missing now
+     */
+    public SortedSet<String> getRemovedValuations() {
+        return Collections.unmodifiableSortedSet(removed);
+    }
+
+    /**
+     * @return valuations whose rows did not change
+     */
+    public SortedSet<String> getUnchangedValuations() {
+        return Collections.unmodifiableSortedSet(unchanged);
+    }
+
+    /**
+     * @return number of valuations whose rows did not change
+     */
+    public long getUnchangedCount() {
+        return unchanged.size();
+    }
+
+    @Override
+    public String toString() {
+        return "added=" + added.size() + ", changed=" + changed.size() + ", removed=" + removed.size() + ", unchanged=" + unchanged.size();
+    }
+}
@@ -0,0 +1,219 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a single {@link Reader#load} call.
+ *
+ * Phases: <b>open</b> - opening the workbook resp. package, <b>header</b> -
+ * resolving the header row, <b>rows</b> - reading, converting and merging
+ * the data rows (wall clock, includes validation), <b>validation</b> - time
+ * spent in the ValuationValidator (summed up over all threads).
+ *
+ * In the batch read mode the open, header and validation timings are summed
+ * up over all files, the rows phase is the wall clock time of the batch.
+ */
+public class ImportStatistics {
+
+    private long openNanos = 0;
+    private long headerNanos = 0;
+    private long rowsNanos = 0;
+    private final AtomicLong validationNanos = new AtomicLong();
+
+    private long rowsRead = 0;
+    private long rowsSkipped = 0;
+    private long rowsUnchanged = 0;
+    private final AtomicLong rowsFailed = new AtomicLong();
+
+    private final ConcurrentMap<String, AtomicLong> conversionErrors = new ConcurrentHashMap<String, AtomicLong>();
+    private final ConcurrentMap<String, AtomicLong> rowErrors = new ConcurrentHashMap<String, AtomicLong>();
+    private final Map<String, String> failedSources = new LinkedHashMap<String, String>();
+
+    void addOpenNanos(long nanos) {
+        openNanos += nanos;
+    }
+
+    void addHeaderNanos(long nanos) {
+        headerNanos += nanos;
+    }
+
+    void addRowsNanos(long nanos) {
+        rowsNanos += nanos;
+    }
+
+    void addValidationNanos(long nanos) {
+        validationNanos.addAndGet(nanos);
+    }
+
+    void rowRead() {
+        rowsRead++;
+    }
+
+    void rowSkipped() {
+        rowsSkipped++;
+    }
+
+    void rowsUnchanged(long rows) {
+        rowsUnchanged += rows;
+    }
+
+    void rowFailed() {
+        rowsFailed.incrementAndGet();
+    }
+
+    void sourceFailed(String source, String error) {
+        failedSources.put(source, error);
+    }
+
+    /**
+     * adds the counters and timings of another import, except for the rows
+     * phase
+     */
+    void add(ImportStatistics other) {
+        openNanos += other.openNanos;
+        headerNanos += other.headerNanos;
+        validationNanos.addAndGet(other.validationNanos.get());
+        rowsRead += other.rowsRead;
+        rowsSkipped += other.rowsSkipped;
+        rowsUnchanged += other.rowsUnchanged;
+        rowsFailed.addAndGet(other.rowsFailed.get());
+        for (Map.Entry<String, AtomicLong> entry : other.conversionErrors.entrySet()) {
+            count(conversionErrors, entry.getKey()).addAndGet(entry.getValue().get());
+        }
+        for (Map.Entry<String, AtomicLong> entry : other.rowErrors.entrySet()) {
+            count(rowErrors, entry.getKey()).addAndGet(entry.getValue().get());
+        }
+        failedSources.putAll(other.failedSources);
+    }
+
+    /**
+     * @return number of conversion errors in this column so far (including
+     *         this one)
+     */
+    long conversionError(String biisKeyName) {
+        return count(conversionErrors, biisKeyName).incrementAndGet();
+    }
+
+    /**
+     * counts a failed row (see {@link #rowFailed()}) by the type of its error
+     * (the messages usually contain the failing value)
+     *
+     * @return number of failed rows with this type of error so far
+     *         (including this one)
+     */
+    long rowError(String errorType) {
+        return count(rowErrors, errorType).incrementAndGet();
+    }
+
+    private static AtomicLong count(ConcurrentMap<String, AtomicLong> counts, String key) {
+        AtomicLong count = counts.get(key);
+        if (count == null) {
+            AtomicLong newCount = new AtomicLong();
+            count = counts.putIfAbsent(key, newCount);
+            if (count == null) {
+                count = newCount;
+            }
+        }
+        return count;
+    }
+
+    public long getOpenMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(openNanos);
+    }
+
+    public long getHeaderMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(headerNanos);
+    }
+
+    public long getRowsMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(rowsNanos);
+    }
+
+    public long getValidationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(validationNanos.get());
+    }
+
+    /**
+     * @return data rows handed to the conversion (without header row)
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * @return data rows ignored because their first cell is empty
+     */
+    public long getRowsSkipped() {
+        return rowsSkipped;
+    }
+
+    /**
+     * @return data rows which did not change since the previous import
+     *         (incremental read mode only)
+     */
+    public long getRowsUnchanged() {
+        return rowsUnchanged;
+    }
+
+    /**
+     * @return data rows which could not be converted completely
+     */
+    public long getRowsFailed() {
+        return rowsFailed.get();
+    }
+
+    /**
+     * @return data rows per second in the rows phase
+     */
+    public double getRowsPerSecond() {
+        if (rowsNanos == 0)
+            return 0;
+
+        return rowsRead * (double) TimeUnit.SECONDS.toNanos(1) / rowsNanos;
+    }
+
+    /**
+     * @return number of cells which could not be converted, per BIIS column
+     */
+    public Map<String, Long> getConversionErrors() {
+        return toMap(conversionErrors);
+    }
+
+    /**
+     * @return number of rows which could not be read, per exception class
+     */
+    public Map<String, Long> getRowErrors() {
+        return toMap(rowErrors);
+    }
+
+    private static Map<String, Long> toMap(ConcurrentMap<String, AtomicLong> counts) {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> entry : counts.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().get());
+        }
+        return result;
+    }
+
+    /**
+     * @return files which could not be imported in the batch read mode, with
+     *         their error
+     */
+    public Map<String, String> getFailedSources() {
+        return new LinkedHashMap<String, String>(failedSources);
+    }
+
+    @Override
+    public String toString() {
+        return "open=" + getOpenMillis() + "ms, header=" + getHeaderMillis() + "ms, rows=" + getRowsMillis() + "ms, validation="
+                + getValidationMillis() + "ms, rows read=" + getRowsRead() + ", skipped=" + getRowsSkipped() + ", unchanged="
+                + getRowsUnchanged() + ", failed=" + getRowsFailed() + ", " + Math.round(getRowsPerSecond()) + " rows/s, conversion errors="
+                + getConversionErrors() + ", row errors=" + getRowErrors()
+                + (failedSources.isEmpty() ? "" : ", failed sources=" + failedSources.keySet());
+    }
+}
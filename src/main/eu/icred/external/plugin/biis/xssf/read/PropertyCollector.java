@@ -0,0 +1,28 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.Map;
+
+import eu.icred.model.node.entity.Property;
+
+/**
+ * Collects the properties of a sheet in a map indexed by ObjNoOwner. Groups
+ * of the same property are merged (see
+ * {@link RowProcessor#mergeProperty(Property, Property)}).
+ */
+class PropertyCollector implements PropertyListener {
+    private final Map<String, Property> properties;
+
+    PropertyCollector(Map<String, Property> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void propertyRead(String objNoOwner, Property property) {
+        Property prop = properties.get(objNoOwner);
+        if (prop == null) {
+            properties.put(objNoOwner, property);
+        } else {
+            RowProcessor.mergeProperty(prop, property);
+        }
+    }
+}
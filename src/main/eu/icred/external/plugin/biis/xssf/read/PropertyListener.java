@@ -0,0 +1,32 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import eu.icred.model.node.entity.Property;
+
+/**
+ * Receives the properties of a BIIS sheet while it is read (see
+ * {@link Reader#load(eu.icred.plugin.worker.input.ImportWorkerConfiguration, PropertyListener)}).
+ *
+ * A property is complete as soon as a row of another ObjNoOwner follows, so
+ * only one property group is held in memory (the sheet is read with the event
+ * API unless "streaming" is set to 0). The listener is called on the
+ * reading thread: reading resumes when it returns, i.e. a slow listener
+ * slows down the import instead of piling up properties.
+ */
+public interface PropertyListener {
+
+    /**
+     * called once per consecutive group of rows with the same ObjNoOwner (in
+     * sheet order). If the rows of a property are not sorted together, the
+     * property is reported once per group, each time with the valuations of
+     * that group only.
+     *
+     * @param objNoOwner
+     *            ID of the property
+     * @param property
+     *            the property with its valuations (indexed by
+     *            DataSupplierNumber_DateOfAppraisal)
+     * @throws Exception
+     *             to abort the import
+     */
+    void propertyRead(String objNoOwner, Property property) throws Exception;
+}
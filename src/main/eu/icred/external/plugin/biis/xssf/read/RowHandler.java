@@ -0,0 +1,16 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+/**
+ * Receives the decoded rows of a BIIS sheet in sheet order.
+ */
+interface RowHandler {
+
+    /**
+     * @param rowIndex
+     *            0-based index of the row within the sheet
+     * @param cells
+     *            decoded cells indexed by column, <code>null</code> for
+     *            missing cells
+     */
+    void handleRow(int rowIndex, BiisCell[] cells) throws Exception;
+}
@@ -0,0 +1,358 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.log4j.Logger;
+import org.apache.poi.hssf.util.CellReference;
+
+import eu.icred.model.node.entity.Property;
+import eu.icred.model.node.entity.Valuation;
+import eu.icred.model.node.group.Address;
+import eu.icred.validator.subset_5_7.ValuationValidator;
+
+/**
+ * Converts the rows of a BIIS sheet and hands the resulting properties to a
+ * {@link PropertyListener}.
+ *
+ * Every row is converted and validated on its own (see {@link BiisRow}), the
+ * results are merged by ObjNoOwner strictly in sheet order: consecutive rows
+ * of the same property are collected, the property is passed on when a row
+ * of another property follows. With a
+ * {@link ForkJoinPool} the conversion runs in chunks of rows on the pool
+ * while the sheet is still being read; the merged result is the same as in
+ * sequential mode.
+ */
+class RowProcessor implements RowHandler {
+    private static Logger logger = Logger.getLogger(RowProcessor.class);
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_PENDING_CHUNKS_PER_THREAD = 4;
+    private static final int MAX_LOGGED_ERRORS_PER_COLUMN = 10;
+    private static final int MAX_LOGGED_ROW_ERRORS = 10;
+
+    private final PropertyListener listener;
+    private final ForkJoinPool pool;
+    private final ImportStatistics statistics;
+    private final boolean fullErrorReporting;
+    private final FingerprintIndex fingerprints;
+
+    private BiisColumn[] columns = new BiisColumn[0];
+    private int dataSupplierNumberIndex = -1;
+    private int dateOfAppraisalIndex = -1;
+    private long rowsStart = System.nanoTime();
+
+    private String groupPropId = null;
+    private Property groupProp = null;
+
+    private List<BiisRow> chunkRows = new ArrayList<BiisRow>(CHUNK_SIZE);
+    private List<BiisCell[]> chunkCells = new ArrayList<BiisCell[]>(CHUNK_SIZE);
+    private final LinkedList<ForkJoinTask<List<BiisRow>>> pendingChunks = new LinkedList<ForkJoinTask<List<BiisRow>>>();
+
+    /**
+     * @param listener
+     *            receiver of the properties
+     * @param pool
+     *            pool for the row conversion or <code>null</code> to convert
+     *            sequentially
+     * @param fullErrorReporting
+     *            <code>true</code> to log every conversion error with its
+     *            stack trace, otherwise only the first
+     *            {@value #MAX_LOGGED_ERRORS_PER_COLUMN} errors per column and
+     *            the first {@value #MAX_LOGGED_ROW_ERRORS} failed rows per
+     *            type of error are logged and the rest is summed up in
+     *            {@link #finish()}
+     * @param fingerprints
+     *            index which records the fingerprints of the rows or
+     *            <code>null</code>
+     */
+    RowProcessor(PropertyListener listener, ForkJoinPool pool, ImportStatistics statistics, boolean fullErrorReporting,
+            FingerprintIndex fingerprints) {
+        this.listener = listener;
+        this.pool = pool;
+        this.statistics = statistics;
+        this.fullErrorReporting = fullErrorReporting;
+        this.fingerprints = fingerprints;
+    }
+
+    @Override
+    public void handleRow(int rowIndex, BiisCell[] cells) throws Exception {
+        if (rowIndex == 0) {
+            if (cells.length > 0 && cells[0] != null) {
+                long start = System.nanoTime();
+                readHeader(cells);
+                rowsStart = System.nanoTime();
+                statistics.addHeaderNanos(rowsStart - start);
+            }
+            return;
+        }
+
+        statistics.rowRead();
+        if (cells.length == 0 || cells[0] == null) {
+            statistics.rowSkipped();
+            return;
+        }
+
+        BiisRow row = new BiisRow(rowIndex);
+        if (fingerprints != null) {
+            row.valuationId = readValuationId(rowIndex, cells);
+            if (row.valuationId != null) {
+                row.fingerprint = FingerprintIndex.fingerprint(columns, cells);
+            }
+        }
+
+        if (pool == null) {
+            mergeRow(convertRow(columns, row, cells));
+            return;
+        }
+
+        chunkRows.add(row);
+        chunkCells.add(cells);
+        if (chunkRows.size() >= CHUNK_SIZE) {
+            submitChunk();
+        }
+        while (pendingChunks.size() > pool.getParallelism() * MAX_PENDING_CHUNKS_PER_THREAD) {
+            mergeChunk(pendingChunks.removeFirst());
+        }
+    }
+
+    /**
+     * converts the remaining rows and waits until all of them are passed on
+     */
+    void finish() throws Exception {
+        if (pool != null) {
+            submitChunk();
+            while (!pendingChunks.isEmpty()) {
+                mergeChunk(pendingChunks.removeFirst());
+            }
+        }
+        completeGroup();
+        statistics.addRowsNanos(System.nanoTime() - rowsStart);
+
+        if (!fullErrorReporting) {
+            for (Map.Entry<String, Long> errors : statistics.getConversionErrors().entrySet()) {
+                if (errors.getValue() > MAX_LOGGED_ERRORS_PER_COLUMN) {
+                    logger.warn(errors.getValue() + " cells of column '" + errors.getKey() + "' cannot be converted (only the first "
+                            + MAX_LOGGED_ERRORS_PER_COLUMN + " are logged)");
+                }
+            }
+            for (Map.Entry<String, Long> errors : statistics.getRowErrors().entrySet()) {
+                if (errors.getValue() > MAX_LOGGED_ROW_ERRORS) {
+                    logger.error(errors.getValue() + " rows cannot be read because of " + errors.getKey() + " (only the first "
+                            + MAX_LOGGED_ROW_ERRORS + " are logged)");
+                }
+            }
+        }
+    }
+
+    /**
+     * resolves the header row into the column dispatch table
+     */
+    private void readHeader(BiisCell[] cells) {
+        columns = new BiisColumn[cells.length];
+        for (int columnIndex = 0; columnIndex < cells.length; columnIndex++) {
+            BiisCell cell = cells[columnIndex];
+            if (cell == null) {
+                continue;
+            }
+
+            String biisKeyName = BiisConverter.getCellStringValue(cell);
+            columns[columnIndex] = BiisColumn.forKey(biisKeyName);
+            if (columns[columnIndex] == null) {
+                logger.warn("unknown column '" + biisKeyName + "' [" + CellReference.convertNumToColString(columnIndex) + "1] - ignored");
+            } else if (columns[columnIndex] == BiisColumn.DATA_SUPPLIER_NUMBER) {
+                dataSupplierNumberIndex = columnIndex;
+            } else if (columns[columnIndex] == BiisColumn.DATE_OF_APPRAISAL) {
+                dateOfAppraisalIndex = columnIndex;
+            }
+        }
+    }
+
+    /**
+     * converts only the cells of the valuation ID (see
+     * {@link BiisRow#setObjectId()})
+     *
+     * @return the valuation ID or <code>null</code> if the row has none
+     */
+    private String readValuationId(int rowIndex, BiisCell[] cells) {
+        if (dataSupplierNumberIndex < 0 || dataSupplierNumberIndex >= cells.length || cells[dataSupplierNumberIndex] == null
+                || dateOfAppraisalIndex < 0 || dateOfAppraisalIndex >= cells.length || cells[dateOfAppraisalIndex] == null) {
+            return null;
+        }
+
+        BiisRow row = new BiisRow(rowIndex);
+        try {
+            BiisColumn.DATA_SUPPLIER_NUMBER.convert(row, cells[dataSupplierNumberIndex]);
+            BiisColumn.DATE_OF_APPRAISAL.convert(row, cells[dateOfAppraisalIndex]);
+        } catch (Throwable t) {
+            // reported by the conversion of the row
+            return null;
+        }
+        return row.val.getObjectIdSender();
+    }
+
+    private void submitChunk() {
+        if (chunkRows.isEmpty()) {
+            return;
+        }
+
+        final BiisColumn[] chunkColumns = columns;
+        final List<BiisRow> rows = chunkRows;
+        final List<BiisCell[]> cells = chunkCells;
+        pendingChunks.add(pool.submit(new Callable<List<BiisRow>>() {
+            @Override
+            public List<BiisRow> call() {
+                for (int i = 0; i < rows.size(); i++) {
+                    convertRow(chunkColumns, rows.get(i), cells.get(i));
+                }
+                return rows;
+            }
+        }));
+
+        chunkRows = new ArrayList<BiisRow>(CHUNK_SIZE);
+        chunkCells = new ArrayList<BiisCell[]>(CHUNK_SIZE);
+    }
+
+    private void mergeChunk(ForkJoinTask<List<BiisRow>> chunk) throws Exception {
+        for (BiisRow row : chunk.join()) {
+            mergeRow(row);
+        }
+    }
+
+    /**
+     * converts and validates a single row; runs on the pool in parallel mode
+     */
+    BiisRow convertRow(BiisColumn[] columns, BiisRow row, BiisCell[] cells) {
+        int rowIndex = row.rowIndex;
+        try {
+            int colCounts = Math.min(cells.length, columns.length);
+            for (int columnIndex = 0; columnIndex < colCounts; columnIndex++) {
+                BiisCell cell = cells[columnIndex];
+                BiisColumn column = columns[columnIndex];
+                if (cell == null || column == null) {
+                    continue;
+                }
+
+                try {
+                    column.convert(row, cell);
+                } catch (Throwable t) {
+                    long errors = statistics.conversionError(column.getKey());
+                    if (fullErrorReporting) {
+                        logger.warn("cannot convert '" + column.getKey() + "' of cell [" + CellReference.convertNumToColString(columnIndex)
+                                + (rowIndex + 1) + "], value='" + BiisConverter.getCellValueObject(cell) + "'", t);
+
+                        t.printStackTrace();
+                    } else if (errors <= MAX_LOGGED_ERRORS_PER_COLUMN) {
+                        logger.warn("cannot convert '" + column.getKey() + "' of cell [" + CellReference.convertNumToColString(columnIndex)
+                                + (rowIndex + 1) + "], value='" + BiisConverter.getCellValueObject(cell) + "': " + t);
+                    }
+
+                    if (column == BiisColumn.CURRENCY && row.mainCurrency == null) {
+                        throw new Exception("error - cannot find mainCurrency", t);
+                    }
+                    if (column == BiisColumn.AREAL_UNIT && row.mainAreaMeasurement == null) {
+                        throw new Exception("error - cannot find mainAreaMeasurement", t);
+                    }
+                }
+            }
+
+            Property prop = row.prop;
+            Address valAddress = row.valAddress;
+            if (prop.getLabel() == null) {
+                StringBuilder propLabel = new StringBuilder();
+                propLabel.append(valAddress.getStreet());
+                if (valAddress.getHousenumber() != null) {
+                    propLabel.append(" ");
+                    propLabel.append(valAddress.getHousenumber());
+                }
+                propLabel.append(", ");
+                propLabel.append(valAddress.getZip());
+                propLabel.append(" ");
+                propLabel.append(valAddress.getCity());
+                prop.setLabel(propLabel.toString());
+            }
+
+            if (row.propId == null || prop.getValuations() == null || prop.getValuations().size() == 0) {
+                throw new Exception("cannot append valuation for property. IDs correct?");
+            }
+
+            long start = System.nanoTime();
+            new ValuationValidator().validate(row.val);
+            statistics.addValidationNanos(System.nanoTime() - start);
+        } catch (Throwable t) {
+            row.failed = true;
+            statistics.rowFailed();
+            long errors = statistics.rowError(t.getClass().getName());
+            if (fullErrorReporting) {
+                logger.error("cannot read row " + (rowIndex + 1), t);
+            } else if (errors <= MAX_LOGGED_ROW_ERRORS) {
+                logger.error("cannot read row " + (rowIndex + 1) + ": " + t);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * merges a converted row into the current property group (in sheet
+     * order). Rows which failed after their ObjNoOwner was read are merged as
+     * well, so the result does not depend on where in the row the conversion
+     * stopped.
+     */
+    private void mergeRow(BiisRow row) throws Exception {
+        if (fingerprints != null && row.fingerprint != null) {
+            fingerprints.update(row.valuationId, row.fingerprint, !row.failed);
+        }
+
+        if (row.propId == null) {
+            return;
+        }
+
+        if (groupProp != null && !groupPropId.equals(row.propId)) {
+            completeGroup();
+        }
+
+        if (groupProp == null) {
+            groupPropId = row.propId;
+            groupProp = row.prop;
+        } else {
+            mergeProperty(groupProp, row.prop);
+        }
+    }
+
+    private void completeGroup() throws Exception {
+        if (groupProp == null) {
+            return;
+        }
+
+        Property prop = groupProp;
+        groupProp = null;
+        listener.propertyRead(groupPropId, prop);
+        groupPropId = null;
+    }
+
+    /**
+     * merges the label (if missing) and the valuations of a property into
+     * another one with the same ObjNoOwner
+     */
+    static void mergeProperty(Property prop, Property other) {
+        if (prop.getLabel() == null) {
+            prop.setLabel(other.getLabel());
+        }
+
+        Map<String, Valuation> otherValuations = other.getValuations();
+        if (otherValuations != null) {
+            Map<String, Valuation> valuations = prop.getValuations();
+            if (valuations == null) {
+                valuations = new HashMap<String, Valuation>();
+            }
+            valuations.putAll(otherValuations);
+            prop.setValuations(valuations);
+        }
+    }
+}
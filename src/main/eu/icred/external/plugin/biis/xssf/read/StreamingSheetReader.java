@@ -0,0 +1,243 @@
+package eu.icred.external.plugin.biis.xssf.read;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads a sheet of a BIIS workbook with the POI event API.
+ *
+ * Unlike {@link org.apache.poi.xssf.usermodel.XSSFWorkbook} the sheet XML is
+ * never held in memory: only the shared strings and styles are loaded, the
+ * cells are decoded while parsing and handed to a {@link RowHandler} row by
+ * row.
+ *
+ * {@link org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler} is not used
+ * because it only reports formatted strings, whereas the conversion needs the
+ * raw cell type and value (exactly like in the workbook read mode).
+ */
+final class StreamingSheetReader {
+    private static final String NS_SPREADSHEETML = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+    private final XSSFReader reader;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final DecodingCache cache;
+    private final boolean date1904;
+
+    StreamingSheetReader(OPCPackage pkg) throws IOException, OpenXML4JException, SAXException {
+        reader = new XSSFReader(pkg);
+        sharedStrings = new ReadOnlySharedStringsTable(pkg);
+        cache = new DecodingCache(reader.getStylesTable(), null);
+        date1904 = readDate1904();
+    }
+
+    /**
+     * reads the sheet selected by its 1-based index or (if index is
+     * <code>null</code>) by its name
+     *
+     * @return <code>false</code> if there is no such sheet
+     * @throws Exception
+     *             the exception of the row handler (unwrapped) or of the
+     *             parser
+     */
+    boolean readSheet(Integer sheetIdx, String sheetName, RowHandler handler) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        int idx = 0;
+        while (sheets.hasNext()) {
+            InputStream sheetStream = sheets.next();
+            idx++;
+            try {
+                if ((sheetIdx != null && sheetIdx == idx) || (sheetIdx == null && sheetName != null && sheetName.equals(sheets.getSheetName()))) {
+                    parse(sheetStream, new SheetHandler(handler));
+                    return true;
+                }
+            } catch (RowHandlerException e) {
+                throw e.getException();
+            } finally {
+                sheetStream.close();
+            }
+        }
+        return false;
+    }
+
+    private boolean readDate1904() throws IOException, OpenXML4JException, SAXException {
+        final boolean[] result = { false };
+        InputStream workbookStream = reader.getWorkbookData();
+        try {
+            parse(workbookStream, new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    if (NS_SPREADSHEETML.equals(uri) && "workbookPr".equals(localName)) {
+                        String value = attributes.getValue("date1904");
+                        result[0] = "1".equals(value) || "true".equals(value);
+                    }
+                }
+            });
+        } finally {
+            workbookStream.close();
+        }
+        return result[0];
+    }
+
+    private static void parse(InputStream stream, DefaultHandler handler) throws IOException, SAXException {
+        XMLReader xmlReader;
+        try {
+            xmlReader = SAXHelper.newXMLReader();
+        } catch (javax.xml.parsers.ParserConfigurationException e) {
+            throw new SAXException(e);
+        }
+        xmlReader.setContentHandler(handler);
+        xmlReader.parse(new InputSource(stream));
+    }
+
+    private BiisCell decode(String type, int styleIndex, String value, String inlineString) {
+        if ("s".equals(type)) {
+            if (value.length() == 0)
+                return BiisCell.blank();
+            return BiisCell.string(sharedStrings.getEntryAt(Integer.parseInt(value)));
+        } else if ("inlineStr".equals(type)) {
+            return BiisCell.string(inlineString);
+        } else if ("str".equals(type)) {
+            return BiisCell.string(value);
+        } else if ("b".equals(type)) {
+            return BiisCell.bool(value.equals("1") || value.equalsIgnoreCase("true"));
+        } else if ("e".equals(type)) {
+            return BiisCell.error();
+        } else if (value.length() == 0) {
+            return BiisCell.blank();
+        } else {
+            double number = Double.parseDouble(value);
+            return BiisCell.numeric(number, DateUtil.isValidExcelDate(number) && cache.isDateFormat(styleIndex), date1904);
+        }
+    }
+
+    /**
+     * converts the column part of a cell reference ("AB12") to a 0-based
+     * column index
+     */
+    private static int parseColumnIndex(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z')
+                break;
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static class RowHandlerException extends SAXException {
+        private static final long serialVersionUID = 1L;
+
+        RowHandlerException(Exception cause) {
+            super(cause);
+        }
+    }
+
+    private class SheetHandler extends DefaultHandler {
+        private final RowHandler handler;
+
+        private int rowIndex = -1;
+        private BiisCell[] cells = new BiisCell[0];
+        private int lastColumnIndex = -1;
+        private int rowLength = 0;
+
+        private int columnIndex;
+        private String cellType;
+        private int styleIndex;
+        private boolean hasFormula;
+        private boolean hasValue;
+        private final StringBuilder value = new StringBuilder();
+        private final StringBuilder inlineString = new StringBuilder();
+        private StringBuilder text = null;
+
+        SheetHandler(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if (!NS_SPREADSHEETML.equals(uri))
+                return;
+
+            if ("row".equals(localName)) {
+                String r = attributes.getValue("r");
+                rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                Arrays.fill(cells, null);
+                lastColumnIndex = -1;
+                rowLength = 0;
+
+            } else if ("c".equals(localName)) {
+                String r = attributes.getValue("r");
+                columnIndex = r != null ? parseColumnIndex(r) : lastColumnIndex + 1;
+                cellType = attributes.getValue("t");
+                String s = attributes.getValue("s");
+                styleIndex = s != null ? Integer.parseInt(s) : 0;
+                hasFormula = false;
+                hasValue = false;
+                value.setLength(0);
+                inlineString.setLength(0);
+
+            } else if ("v".equals(localName)) {
+                hasValue = true;
+                text = value;
+
+            } else if ("f".equals(localName)) {
+                hasFormula = true;
+
+            } else if ("t".equals(localName) && "inlineStr".equals(cellType)) {
+                text = inlineString;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (text != null)
+                text.append(ch, start, length);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            if (!NS_SPREADSHEETML.equals(uri))
+                return;
+
+            if ("v".equals(localName) || "f".equals(localName) || "t".equals(localName)) {
+                text = null;
+
+            } else if ("c".equals(localName)) {
+                // formula cells: the cached result only (see BiisCell)
+                BiisCell cell = hasFormula && !hasValue ? BiisCell.blank() : decode(cellType, styleIndex, value.toString(),
+                        inlineString.toString());
+
+                if (columnIndex >= cells.length)
+                    cells = Arrays.copyOf(cells, Math.max(columnIndex + 1, cells.length * 2));
+                cells[columnIndex] = cell;
+                lastColumnIndex = columnIndex;
+                rowLength = Math.max(rowLength, columnIndex + 1);
+
+            } else if ("row".equals(localName)) {
+                // rows without cells are no data rows (like missing rows)
+                if (rowLength == 0)
+                    return;
+
+                try {
+                    handler.handleRow(rowIndex, Arrays.copyOf(cells, rowLength));
+                } catch (Exception e) {
+                    throw new RowHandlerException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,1065 @@
+package eu.icred.external.plugin.biis.xssf.write;
+
+import static eu.icred.external.plugin.biis.xssf.write.GifConverter.*;
+
+import eu.icred.model.datatype.Area;
+import eu.icred.model.datatype.enumeration.AreaMeasurement;
+import eu.icred.model.node.entity.Property;
+import eu.icred.model.node.entity.Valuation;
+import eu.icred.model.node.group.Address;
+
+/**
+ * The columns of a BIIS sheet as written by {@link Writer}.
+ *
+ * The constants are the inverse of the columns read by
+ * {@link eu.icred.external.plugin.biis.xssf.read.Reader} (same keys, same
+ * order): each one extracts the value of its cell from a valuation. Values
+ * are {@link String}s, {@link Number}s, {@link Boolean}s or
+ * {@link org.joda.time.LocalDate}s; <code>null</code> leaves the cell empty.
+ */
+enum BiisExportColumn {
+    DATE("Date") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getValidFrom();
+        }
+    },
+
+    COMPLETION_DATE("CompletionDate") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getValuationDate();
+        }
+    },
+
+    DATA_SUPPLIER("DataSupplier") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getExpertName();
+        }
+    },
+
+    TYPE_OF_DATA_SUPPLIER("TypeOfDataSupplier") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return null;
+        }
+    },
+
+    AREAL_UNIT("ArealUnit") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_AreaMeasurement(mainAreaMeasurement(val));
+        }
+    },
+
+    ADDRESS_TYPE_STREET("AddressType_Street") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            Address address = val.getAddress();
+            return address == null ? null : address.getStreet();
+        }
+    },
+
+    ADDRESS_TYPE_POST_CODE("AddressType_PostCode") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            Address address = val.getAddress();
+            return address == null ? null : address.getZip();
+        }
+    },
+
+    ADDRESS_TYPE_TOWN("AddressType_Town") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            Address address = val.getAddress();
+            return address == null ? null : address.getCity();
+        }
+    },
+
+    ADDRESS_TYPE_ISO_COUNTRY_CODE_TYPE_COUNTRY("AddressType_ISOCountryCodeType_Country") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            Address address = val.getAddress();
+            return address == null || address.getCountry() == null ? null : address.getCountry().name();
+        }
+    },
+
+    ADDRESS_TYPE_TEXT("AddressType_Text") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            Address address = val.getAddress();
+            return address == null ? null : address.getLabel();
+        }
+    },
+
+    OWNER("Owner") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getOwner();
+        }
+    },
+
+    OBJ_NO_OWNER("ObjNoOwner") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return objNoOwner;
+        }
+    },
+
+    OBJ_KO_WGS84_LONGITUDE("ObjKoWGS84Longitude") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            Address address = val.getAddress();
+            return address == null ? null : address.getLongitude();
+        }
+    },
+
+    OBJ_KO_WGS84_LATITUDE("ObjKoWGS84Latitude") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            Address address = val.getAddress();
+            return address == null ? null : address.getLatitude();
+        }
+    },
+
+    REBASE_TYPE1("RebaseType1") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_ValuationType1(val.getValuationType1());
+        }
+    },
+
+    REBASE_TYPE2("RebaseType2") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_ValuationType2(val.getValuationType2());
+        }
+    },
+
+    REBASE_OBJ_ADDITIONAL_INFORMATION("RebaseObjAdditionalInformation") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getNote();
+        }
+    },
+
+    DATE_OF_APPRAISAL("DateOfAppraisal") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getValidFrom();
+        }
+    },
+
+    QUALITY_DATE_OF_APPRAISAL("QualityDateOfAppraisal") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return null;
+        }
+    },
+
+    CURRENCY("Currency") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getCurrency() == null ? null : val.getCurrency().getCurrencyCode();
+        }
+    },
+
+    EXCHANGE_RATE1_EUR("ExchangeRate1EUR") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getExchangeRateToEUR();
+        }
+    },
+
+    DATE_EXCHANGE_RATE("DateExchangeRate") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getExchangeRateDate();
+        }
+    },
+
+    MAIN_TYPE_OF_USE("MainTypeOfUse") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_UseType(val.getUseTypePrimary());
+        }
+    },
+
+    SHARE_MAIN_TYPE_OF_USE("ShareMainTypeOfUse") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getUseTypePrimaryShare();
+        }
+    },
+
+    ANCILLARY_TYPE_OF_USE("AncillaryTypeOfUse") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_UseType(val.getUseTypeSecondary());
+        }
+    },
+
+    SHARE_ANCILLARY_TYPE_OF_USE("ShareAncillaryTypeOfUse") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getUseTypeSecondaryShare();
+        }
+    },
+
+    TYPE_OF_OWNERSHIP("TypeOfOwnership") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_OwnershipType(val.getOwnershipType());
+        }
+    },
+
+    SINGLE_TENANT("SingleTenant") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getSingleTenant();
+        }
+    },
+
+    PURCHASE_PRICE("PurchasePrice") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getPurchaseNetPrice());
+        }
+    },
+
+    DATE_OF_PURCHASE("DateOfPurchase") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getPurchaseDate();
+        }
+    },
+
+    PRICE_OF_SALE("PriceOfSale") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getSaleNetPrice());
+        }
+    },
+
+    DATE_OF_SALE("DateOfSale") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getSaleDate();
+        }
+    },
+
+    LOCATION_QUALITY("LocationQuality") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_RetailLocationType(val.getRetailLocation());
+        }
+    },
+
+    STRUCTURAL_CONDITION("StructuralCondition") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Condition(val.getCondition());
+        }
+    },
+
+    FIT_OUT_QUALITY("FitOutQuality") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_InteriorQuality(val.getInteriorQuality());
+        }
+    },
+
+    STATE_OF_COMPLETION("StateOfCompletion") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_ConstructionPhase(val.getConstructionPhase());
+        }
+    },
+
+    MAINTENANCE_BACKLOG("MaintenanceBacklog") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getMaintenanceBacklog();
+        }
+    },
+
+    FLOORS("Floors") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getFloorDescription();
+        }
+    },
+
+    NORMAL_TOTAL_ECONOMIC_LIFE("NormalTotalEconomicLife") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Period(val.getNormalTotalEconomicLife());
+        }
+    },
+
+    REMAINING_ECONOMIC_LIFE("RemainingEconomicLife") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Period(val.getRemainingEconomicLife());
+        }
+    },
+
+    ORIGINAL_YEAR_OF_CONSTRUCTION("OriginalYearOfConstruction") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Year(val.getConstructionDate());
+        }
+    },
+
+    CALCULATED_YEAR_OF_CONSTRUCTION("CalculatedYearOfConstruction") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Year(val.getEconomicConstructionDate());
+        }
+    },
+
+    DATE_OF_CHANGE_FOR_REMAINING_ECONOMIC_LIFE("DateOfChangeForRemainingEconomicLife") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getChangeDateForRemainingEconomicLife();
+        }
+    },
+
+    LAND_SIZE("LandSize") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getPlotArea());
+        }
+    },
+
+    FLOOR_TO_AREA_RATIO("FloorToAreaRatio") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getGfz();
+        }
+    },
+
+    SITE_COVERAGE_RATIO("SiteCoverageRatio") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getGrz();
+        }
+    },
+
+    GROSS_FLOOR_SPACE_OVERGROUND("GrossFloorSpaceOverground") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getGrossFloorSpaceOverground());
+        }
+    },
+
+    GROSS_FLOOR_SPACE_BELOW_GROUND("GrossFloorSpaceBelowGround") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getGrossFloorSpaceBelowGround());
+        }
+    },
+
+    TOTAL_GROSS_FLOOR_SPACE("TotalGrossFloorSpace") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getTotalGrossFloorSpace());
+        }
+    },
+
+    TOTAL_RENTABLE_AREA("TotalRentableArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getTotalRentableArea());
+        }
+    },
+
+    RUNNING_COSTS("RunningCosts") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRunningCosts());
+        }
+    },
+
+    MANAGEMENT_COSTS("ManagementCosts") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getManagementCosts());
+        }
+    },
+
+    MAINTENANCE_EXPENSES("MaintenanceExpenses") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getMaintenanceExpenses());
+        }
+    },
+
+    RENT_ALLOWANCE("RentAllowance") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentAllowance());
+        }
+    },
+
+    OTHER_OPERATING_EXPENSES("OtherOperatingExpenses") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getOtherOperatingExpenses());
+        }
+    },
+
+    CAPITALIZATION_RATE("CapitalizationRate") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getCapitalizationRate();
+        }
+    },
+
+    VALUE_BY_INCOME_APPROACH_WITHOUT_PREMIUMS_DISCOUNTS("ValueByIncomeApproachWithoutPremiumsDiscounts") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getValueByIncomeApproachWithoutPremiumsDiscounts());
+        }
+    },
+
+    DISCOUNTS_PREMIUMS("DiscountsPremiums") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getDiscountsPremiums());
+        }
+    },
+
+    DEDUCTION_FOR_VACANCY("DeductionForVacancy") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getDeductionForVacancy());
+        }
+    },
+
+    DEDUCTION_CONSTRUCTION_WORKS("DeductionConstructionWorks") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getDeductionConstructionWorks());
+        }
+    },
+
+    OTHERS_DISCOUNTS_PREMIUMS("OthersDiscountsPremiums") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getOthersDiscountsPremiums());
+        }
+    },
+
+    VALUE_BY_INCOME_APPROACH("ValueByIncomeApproach") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getValueByIncomeApproach());
+        }
+    },
+
+    COST_APPROACH("CostApproach") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getCostApproach());
+        }
+    },
+
+    LAND_VALUE("LandValue") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getLandValue());
+        }
+    },
+
+    MARKET_VALUE("MarketValue") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getFairValue());
+        }
+    },
+
+    GROUND_LEASE("GroundLease") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getGroundLease();
+        }
+    },
+
+    REMAINING_LIFE_OF_GROUND_LEASE("RemainingLifeOfGroundLease") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Period(val.getRemainingLifeOfGroundLease());
+        }
+    },
+
+    GROUND_RENT("GroundRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getGroundRent());
+        }
+    },
+
+    GROUND_LEASE_REMARKS("GroundLeaseRemarks") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getGroundLeaseRemarks();
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_LET_AREA("RentalSituationOfficeLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationOfficeLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_CONTRACTUAL_ANNUAL_RENT("RentalSituationOfficeContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationOfficeContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationOfficeEstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationOfficeEstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_VACANT_AREA("RentalSituationOfficeVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationOfficeVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_OFFICE_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationOfficeEstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationOfficeEstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_LET_AREA("RentalSituationRetailLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationRetailLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_CONTRACTUAL_ANNUAL_RENT("RentalSituationRetailContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationRetailContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationRetailEstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationRetailEstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_VACANT_AREA("RentalSituationRetailVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationRetailVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_RETAIL_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationRetailEstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationRetailEstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_LET_AREA("RentalSituationStorageLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationStorageLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_CONTRACTUAL_ANNUAL_RENT("RentalSituationStorageContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationStorageContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationStorageEstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationStorageEstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_VACANT_AREA("RentalSituationStorageVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationStorageVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_STORAGE_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationStorageEstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationStorageEstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_LET_AREA("RentalSituationArchiveLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationArchiveLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_CONTRACTUAL_ANNUAL_RENT("RentalSituationArchiveContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationArchiveContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationArchiveEstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationArchiveEstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_VACANT_AREA("RentalSituationArchiveVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationArchiveVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_ARCHIVE_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationArchiveEstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationArchiveEstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_LET_AREA("RentalSituationGastroLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationGastroLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_CONTRACTUAL_ANNUAL_RENT("RentalSituationGastroContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationGastroContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationGastroEstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationGastroEstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_VACANT_AREA("RentalSituationGastroVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationGastroVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_GASTRO_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationGastroEstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationGastroEstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_LET_AREA("RentalSituationResidentialLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationResidentialLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_CONTRACTUAL_ANNUAL_RENT("RentalSituationResidentialContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationResidentialContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationResidentialEstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationResidentialEstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_VACANT_AREA("RentalSituationResidentialVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationResidentialVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_RESIDENTIAL_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationResidentialEstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationResidentialEstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_LET_AREA("RentalSituationHotelLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationHotelLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_CONTRACTUAL_ANNUAL_RENT("RentalSituationHotelContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationHotelContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationHotelEstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationHotelEstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_VACANT_AREA("RentalSituationHotelVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationHotelVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_HOTEL_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationHotelEstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationHotelEstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_LET_AREA("RentalSituationLeisureLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationLeisureLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_CONTRACTUAL_ANNUAL_RENT("RentalSituationLeisureContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationLeisureContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationLeisureEstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationLeisureEstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_VACANT_AREA("RentalSituationLeisureVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationLeisureVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_LEISURE_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationLeisureEstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationLeisureEstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_LET_NUMBERS("RentalSituationIndoorparkingLetNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getRentalSituationIndoorparkingLetNumbers();
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_CONTRACTUAL_ANNUAL_RENT("RentalSituationIndoorparkingContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationIndoorparkingContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_ESTIMATED_ANNUAL_RENT_FOR_LET_NUMBERS("RentalSituationIndoorparkingEstimatedAnnualRentForLetNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationIndoorparkingEstimatedAnnualRentForLetNumbers());
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_VACANT_NUMBERS("RentalSituationIndoorparkingVacantNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getRentalSituationIndoorparkingVacantNumbers();
+        }
+    },
+
+    RENTAL_SITUATION_INDOORPARKING_ESTIMATED_ANNUAL_RENT_FOR_VACANT_NUMBERS("RentalSituationIndoorparkingEstimatedAnnualRentForVacantNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationIndoorparkingEstimatedAnnualRentForVacantNumbers());
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_LET_NUMBERS("RentalSituationOutsideparkingLetNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getRentalSituationOutsideparkingLetNumbers();
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_CONTRACTUAL_ANNUAL_RENT("RentalSituationOutsideparkingContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationOutsideparkingContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_ESTIMATED_ANNUAL_RENT_FOR_LET_NUMBERS("RentalSituationOutsideparkingEstimatedAnnualRentForLetNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationOutsideparkingEstimatedAnnualRentForLetNumbers());
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_VACANT_NUMBERS("RentalSituationOutsideparkingVacantNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getRentalSituationOutsideparkingVacantNumbers();
+        }
+    },
+
+    RENTAL_SITUATION_OUTSIDEPARKING_ESTIMATED_ANNUAL_RENT_FOR_VACANT_NUMBERS("RentalSituationOutsideparkingEstimatedAnnualRentForVacantNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationOutsideparkingEstimatedAnnualRentForVacantNumbers());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_LET_AREA("RentalSituationMiscArea1LetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationMiscArea1LetArea());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_CONTRACTUAL_ANNUAL_RENT("RentalSituationMiscArea1ContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscArea1ContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationMiscArea1EstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscArea1EstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_VACANT_AREA("RentalSituationMiscArea1VacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationMiscArea1VacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA1_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationMiscArea1EstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscArea1EstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_LET_AREA("RentalSituationMiscArea2LetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationMiscArea2LetArea());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_CONTRACTUAL_ANNUAL_RENT("RentalSituationMiscArea2ContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscArea2ContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_ESTIMATED_ANNUAL_RENT_FOR_LET_AREA("RentalSituationMiscArea2EstimatedAnnualRentForLetArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscArea2EstimatedAnnualRentForLetArea());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_VACANT_AREA("RentalSituationMiscArea2VacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Area(val.getRentalSituationMiscArea2VacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_MISC_AREA2_ESTIMATED_ANNUAL_RENT_FOR_VACANT_AREA("RentalSituationMiscArea2EstimatedAnnualRentForVacantArea") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscArea2EstimatedAnnualRentForVacantArea());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_LET_NUMBERS("RentalSituationMiscnumbers1LetNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getRentalSituationMiscnumbers1LetNumbers();
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_CONTRACTUAL_ANNUAL_RENT("RentalSituationMiscnumbers1ContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscnumbers1ContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_ESTIMATED_ANNUAL_RENT_FOR_LET_NUMBERS("RentalSituationMiscnumbers1EstimatedAnnualRentForLetNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscnumbers1EstimatedAnnualRentForLetNumbers());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_VACANT_NUMBERS("RentalSituationMiscnumbers1VacantNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getRentalSituationMiscnumbers1VacantNumbers();
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS1_ESTIMATED_ANNUAL_RENT_FOR_VACANT_NUMBERS("RentalSituationMiscnumbers1EstimatedAnnualRentForVacantNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscnumbers1EstimatedAnnualRentForVacantNumbers());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_LET_NUMBERS("RentalSituationMiscnumbers2LetNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getRentalSituationMiscnumbers2LetNumbers();
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_CONTRACTUAL_ANNUAL_RENT("RentalSituationMiscnumbers2ContractualAnnualRent") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscnumbers2ContractualAnnualRent());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_ESTIMATED_ANNUAL_RENT_FOR_LET_NUMBERS("RentalSituationMiscnumbers2EstimatedAnnualRentForLetNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscnumbers2EstimatedAnnualRentForLetNumbers());
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_VACANT_NUMBERS("RentalSituationMiscnumbers2VacantNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getRentalSituationMiscnumbers2VacantNumbers();
+        }
+    },
+
+    RENTAL_SITUATION_MISCNUMBERS2_ESTIMATED_ANNUAL_RENT_FOR_VACANT_NUMBERS("RentalSituationMiscnumbers2EstimatedAnnualRentForVacantNumbers") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return gif2biis_Amount(val.getRentalSituationMiscnumbers2EstimatedAnnualRentForVacantNumbers());
+        }
+    },
+
+    DATA_SUPPLIER_NUMBER("DataSupplierNumber") {
+        @Override
+        Object value(String objNoOwner, Property prop, Valuation val) {
+            return val.getExpertId();
+        }
+    };
+
+    private final String key;
+
+    private BiisExportColumn(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the BIIS key (header text) of the column
+     */
+    String getKey() {
+        return key;
+    }
+
+    abstract Object value(String objNoOwner, Property prop, Valuation val);
+
+    /**
+     * BIIS has a single areal unit per row: the one of the first area of the
+     * valuation
+     */
+    private static AreaMeasurement mainAreaMeasurement(Valuation val) {
+        AreaMeasurement measurement = areaMeasurement(null, val.getPlotArea());
+        measurement = areaMeasurement(measurement, val.getGrossFloorSpaceOverground());
+        measurement = areaMeasurement(measurement, val.getGrossFloorSpaceBelowGround());
+        measurement = areaMeasurement(measurement, val.getTotalGrossFloorSpace());
+        measurement = areaMeasurement(measurement, val.getTotalRentableArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationOfficeLetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationOfficeVacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationRetailLetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationRetailVacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationStorageLetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationStorageVacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationArchiveLetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationArchiveVacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationGastroLetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationGastroVacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationResidentialLetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationResidentialVacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationHotelLetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationHotelVacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationLeisureLetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationLeisureVacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationMiscArea1LetArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationMiscArea1VacantArea());
+        measurement = areaMeasurement(measurement, val.getRentalSituationMiscArea2LetArea());
+        return areaMeasurement(measurement, val.getRentalSituationMiscArea2VacantArea());
+    }
+
+    /**
+     * @return <code>measurement</code> if already found, otherwise the areal
+     *         unit of <code>area</code> (if any)
+     */
+    private static AreaMeasurement areaMeasurement(AreaMeasurement measurement, Area area) {
+        if (measurement != null || area == null) {
+            return measurement;
+        }
+        return area.getAreaMeasurement();
+    }
+}
@@ -0,0 +1,223 @@
+package eu.icred.external.plugin.biis.xssf.write;
+
+import org.joda.time.LocalDate;
+import org.joda.time.Period;
+
+import eu.icred.model.datatype.Amount;
+import eu.icred.model.datatype.Area;
+import eu.icred.model.datatype.enumeration.AreaMeasurement;
+import eu.icred.model.datatype.enumeration.ConstructionPhase;
+import eu.icred.model.datatype.enumeration.InteriorQuality;
+import eu.icred.model.datatype.enumeration.ObjectCondition;
+import eu.icred.model.datatype.enumeration.OwnershipType;
+import eu.icred.model.datatype.enumeration.RetailLocationType;
+import eu.icred.model.datatype.enumeration.UseType;
+import eu.icred.model.datatype.enumeration.ValuationType1;
+import eu.icred.model.datatype.enumeration.ValuationType2;
+
+/**
+ * Conversion of ICRED datatypes into BIIS cell values (the inverse of the
+ * reader's BiisConverter).
+ *
+ * Where several BIIS values are read as the same ICRED value, the first of
+ * them is written. Values without a BIIS counterpart are written as
+ * <code>null</code> (empty cell).
+ */
+final class GifConverter {
+
+    private GifConverter() {
+    }
+
+    static String gif2biis_AreaMeasurement(AreaMeasurement gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == AreaMeasurement.SQFT) {
+            return "sqft";
+        } else if (gifValue == AreaMeasurement.SQM) {
+            return "qm";
+        } else if (gifValue == AreaMeasurement.TSUBO) {
+            return "tsubo";
+        } else {
+            return "unbekannt";
+        }
+    }
+
+    static String gif2biis_Year(LocalDate gifValue) {
+        if (gifValue == null)
+            return null;
+
+        return String.valueOf(gifValue.getYear());
+    }
+
+    static Double gif2biis_Area(Area gifValue) {
+        if (gifValue == null)
+            return null;
+
+        return gifValue.getValue();
+    }
+
+    static Double gif2biis_Amount(Amount gifValue) {
+        if (gifValue == null)
+            return null;
+
+        return gifValue.getValue();
+    }
+
+    static Integer gif2biis_Period(Period gifValue) {
+        if (gifValue == null)
+            return null;
+
+        return gifValue.getYears();
+    }
+
+    static String gif2biis_ConstructionPhase(ConstructionPhase gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == ConstructionPhase.COMPLETED) {
+            return "F";
+        } else if (gifValue == ConstructionPhase.IN_COMPLETION) {
+            return "I";
+        } else if (gifValue == ConstructionPhase.PLANNED) {
+            return "P";
+        } else if (gifValue == ConstructionPhase.OTHER) {
+            return "0";
+        } else {
+            return null;
+        }
+    }
+
+    static String gif2biis_ValuationType1(ValuationType1 gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == ValuationType1.FUND) {
+            return "Fondsgutachten";
+        } else if (gifValue == ValuationType1.PRIVATE) {
+            return "Privatgutachten";
+        } else if (gifValue == ValuationType1.COURT) {
+            return "Gerichtsgutachten";
+        } else if (gifValue == ValuationType1.THIRD_PERSON) {
+            return "Fremdgutachten";
+        } else {
+            return null;
+        }
+    }
+
+    static String gif2biis_ValuationType2(ValuationType2 gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == ValuationType2.UNKNOWN) {
+            return "U";
+        } else if (gifValue == ValuationType2.FIRST_VALUATION) {
+            return "E";
+        } else if (gifValue == ValuationType2.REVALUATION) {
+            return "N";
+        } else if (gifValue == ValuationType2.MARKET_VALUATION_REPORT) {
+            return "V";
+        } else {
+            return null;
+        }
+    }
+
+    static String gif2biis_UseType(UseType gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == UseType.OFFICE) {
+            return "Buero";
+        } else if (gifValue == UseType.RETAIL) {
+            return "Handel";
+        } else if (gifValue == UseType.INDUSTRY) {
+            return "Industrie(Lager,Hallen)";
+        } else if (gifValue == UseType.OTHER) {
+            return "Keller/Archiv";
+        } else if (gifValue == UseType.GASTRONOMY) {
+            return "Gastronomie";
+        } else if (gifValue == UseType.HOTEL) {
+            return "Hotel";
+        } else if (gifValue == UseType.RESIDENTIAL) {
+            return "Wohnen";
+        } else if (gifValue == UseType.LEISURE) {
+            return "Freizeit";
+        } else if (gifValue == UseType.PARKING) {
+            return "Garage/TG";
+        } else if (gifValue == UseType.NOT_SPECIFIED) {
+            return "unbekannt";
+        } else {
+            return null;
+        }
+    }
+
+    static String gif2biis_OwnershipType(OwnershipType gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == OwnershipType.LEASEHOLD) {
+            return "2 Erbbaurecht";
+        } else if (gifValue == OwnershipType.FREEHOLDER) {
+            return "5 Volleigentum";
+        } else if (gifValue == OwnershipType.OTHER) {
+            return "0 unbekannt";
+        } else {
+            return null;
+        }
+    }
+
+    static String gif2biis_RetailLocationType(RetailLocationType gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == RetailLocationType.HIGH_STREET) {
+            return "1a";
+        } else if (gifValue == RetailLocationType.CITY_CENTRE_OTHER) {
+            return "1b";
+        } else if (gifValue == RetailLocationType.MAJOR_ROUTE) {
+            return "2a";
+        } else if (gifValue == RetailLocationType.SUBURBAN_OTHER) {
+            return "2b";
+        } else if (gifValue == RetailLocationType.NON_URBAN) {
+            return "c";
+        } else if (gifValue == RetailLocationType.UNKNOWN) {
+            return "(unbekannt)";
+        } else {
+            return null;
+        }
+    }
+
+    static String gif2biis_Condition(ObjectCondition gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == ObjectCondition.NEW) {
+            return "sehr gut";
+        } else if (gifValue == ObjectCondition.AGE_APPROPRIATE) {
+            return "gut";
+        } else if (gifValue == ObjectCondition.IN_NEED_OF_REPAIR) {
+            return "schlecht";
+        } else if (gifValue == ObjectCondition.NOT_AVAILABLE) {
+            return "(unbekannt)";
+        } else {
+            return null;
+        }
+    }
+
+    static String gif2biis_InteriorQuality(InteriorQuality gifValue) {
+        if (gifValue == null)
+            return null;
+
+        if (gifValue == InteriorQuality.LUXURY) {
+            return "stark gehoben";
+        } else if (gifValue == InteriorQuality.SOPHISTICATED) {
+            return "gehoben";
+        } else if (gifValue == InteriorQuality.NORMAL) {
+            return "mittel";
+        } else if (gifValue == InteriorQuality.SIMPLE) {
+            return "einfach";
+        } else {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package eu.icred.external.plugin.biis.xssf.write;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.apache.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.joda.time.LocalDate;
+
+import eu.icred.model.datatype.enumeration.Subset;
+import eu.icred.model.node.Container;
+import eu.icred.model.node.entity.Property;
+import eu.icred.model.node.entity.Valuation;
+import eu.icred.plugin.PluginComponent;
+import eu.icred.plugin.worker.WorkerConfiguration;
+import eu.icred.plugin.worker.output.ExportWorkerConfiguration;
+import eu.icred.plugin.worker.output.IExportWorker;
+
+/**
+ * Writes the properties of a container into a BIIS sheet, one row per
+ * valuation (see {@link BiisExportColumn}).
+ *
+ * The workbook is written with {@link SXSSFWorkbook}: only a window of rows is
+ * kept in memory, older rows are flushed to compressed temporary files.
+ *
+ * The label of a property is not part of the BIIS layout: the reader derives
+ * it from the first row of the property (AddressType_Text or the address).
+ */
+public class Writer implements IExportWorker {
+    private static Logger logger = Logger.getLogger(Writer.class);
+
+    public static final Subset[] SUPPORTED_SUBSETS = { Subset.S5_7 };
+    private static final String PARAMETER_NAME_STREAM = "biis-file";
+    private static final String PARAMETER_NAME_SHEET_NAME = "sheet-name";
+    private static final String PARAMETER_NAME_ROW_WINDOW = "row-window";
+
+    private static final String DEFAULT_SHEET_NAME = "BIIS";
+    private static final int DEFAULT_ROW_WINDOW = 100;
+    private static final int MAX_LOGGED_ERRORS_PER_COLUMN = 10;
+
+    private OutputStream xmlStream = null;
+    private String sheetName = DEFAULT_SHEET_NAME;
+    private int rowWindow = DEFAULT_ROW_WINDOW;
+
+    @Override
+    public List<Subset> getSupportedSubsets() {
+        return Arrays.asList(SUPPORTED_SUBSETS);
+    }
+
+    @Override
+    public void load(WorkerConfiguration config) {
+        throw new RuntimeException("not allowed");
+    }
+
+    @Override
+    public void unload() {
+        try {
+            xmlStream.close();
+        } catch (Throwable t) {
+        }
+        xmlStream = null;
+    }
+
+    @Override
+    public void load(ExportWorkerConfiguration config) {
+        xmlStream = config.getStreams().get(PARAMETER_NAME_STREAM);
+
+        String sheetName = config.getStrings().get(PARAMETER_NAME_SHEET_NAME);
+        this.sheetName = sheetName != null ? sheetName : DEFAULT_SHEET_NAME;
+
+        Integer rowWindow = config.getIntegers().get(PARAMETER_NAME_ROW_WINDOW);
+        this.rowWindow = rowWindow != null && rowWindow > 0 ? rowWindow : DEFAULT_ROW_WINDOW;
+    }
+
+    /**
+     * writes the container to the stream of the configuration
+     */
+    @Override
+    public void setContainer(Container container) {
+        try {
+            write(container);
+        } catch (Exception e) {
+            logger.error(e);
+        }
+    }
+
+    private void write(Container container) throws Exception {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, rowWindow, true);
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
+
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+
+            BiisExportColumn[] columns = BiisExportColumn.values();
+            Row header = sheet.createRow(0);
+            for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+                header.createCell(columnIndex).setCellValue(columns[columnIndex].getKey());
+            }
+
+            long[] errors = new long[columns.length];
+            int rowIndex = 1;
+            for (Map.Entry<String, Property> propEntry : container.getMaindata().getProperties().entrySet()) {
+                Property prop = propEntry.getValue();
+                if (prop.getValuations() == null) {
+                    continue;
+                }
+
+                // sorted by valuation id for a stable row order
+                SortedMap<String, Valuation> valuations = new TreeMap<String, Valuation>(prop.getValuations());
+                for (Valuation val : valuations.values()) {
+                    Row row = sheet.createRow(rowIndex++);
+                    for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+                        BiisExportColumn column = columns[columnIndex];
+                        try {
+                            setCellValue(row, columnIndex, column.value(propEntry.getKey(), prop, val), dateStyle);
+                        } catch (Throwable t) {
+                            if (++errors[columnIndex] <= MAX_LOGGED_ERRORS_PER_COLUMN) {
+                                logger.warn("cannot write '" + column.getKey() + "' of valuation " + val.getObjectIdSender() + ": " + t);
+                            }
+                        }
+                    }
+                }
+            }
+
+            for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+                if (errors[columnIndex] > MAX_LOGGED_ERRORS_PER_COLUMN) {
+                    logger.warn(errors[columnIndex] + " cells of column '" + columns[columnIndex].getKey()
+                            + "' cannot be written (only the first " + MAX_LOGGED_ERRORS_PER_COLUMN + " are logged)");
+                }
+            }
+
+            workbook.write(xmlStream);
+            xmlStream.flush();
+        } finally {
+            workbook.dispose();
+            try {
+                workbook.close();
+            } catch (Throwable e) {
+            }
+        }
+    }
+
+    private static void setCellValue(Row row, int columnIndex, Object value, CellStyle dateStyle) {
+        if (value == null) {
+            return;
+        }
+
+        Cell cell = row.createCell(columnIndex);
+        if (value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else if (value instanceof LocalDate) {
+            cell.setCellValue(((LocalDate) value).toDate());
+            cell.setCellStyle(dateStyle);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    @Override
+    public ExportWorkerConfiguration getRequiredConfigurationArguments() {
+        return new ExportWorkerConfiguration() {
+            {
+                SortedMap<String, OutputStream> streams = getStreams();
+                streams.put(PARAMETER_NAME_STREAM, null);
+
+                SortedMap<String, String> strings = getStrings();
+                strings.put(PARAMETER_NAME_SHEET_NAME, null);
+
+                SortedMap<String, Integer> integers = getIntegers();
+                integers.put(PARAMETER_NAME_ROW_WINDOW, null);
+            }
+        };
+    }
+
+    @Override
+    public PluginComponent<ExportWorkerConfiguration> getConfigGui() {
+        // null => DefaultConfigGui
+        return null;
+    }
+}